@@ -1,6 +1,8 @@
 create table chessGame(
     gameID varchar(10) not null,
     turn varchar(10) not null,
+    halfmoveClock int not null default 0,
+    positions varchar(2048) not null default '',
     primary key(gameID)
 );
 
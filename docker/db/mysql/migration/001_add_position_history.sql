@@ -0,0 +1,4 @@
+-- init.sql 은 빈 데이터베이스에서만 실행되므로, 이전 스키마로 만든 데이터베이스는 이 스크립트로 한 번 고친다.
+alter table chessGame
+    add column halfmoveClock int not null default 0,
+    add column positions varchar(2048) not null default '';
@@ -0,0 +1,67 @@
+package chess.db;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import chess.domain.board.Board;
+import chess.domain.board.SavedBoardGenerator;
+import chess.domain.piece.InitialPositionPieceGenerator;
+import chess.domain.piece.Piece;
+import chess.domain.position.Column;
+import chess.domain.position.Row;
+import chess.domain.position.Square;
+
+/**
+ * 저장된 게임을 불러올 때의 경로를 DB 없이 측정한다.
+ * piece 테이블의 64개 행(position, type, color)을 말로 바꾸고, 그 맵으로 체스판을 만든다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PieceRowBenchmark {
+    private String[][] rows;
+    private Map<Square, Piece> decoded;
+
+    @Setup
+    public void setUp() {
+        rows = new String[Column.values().length * Row.values().length][];
+        int index = 0;
+        for (Column column : Column.values()) {
+            for (Row row : Row.values()) {
+                rows[index++] = new String[]{
+                        Square.of(column, row).getName(),
+                        InitialPositionPieceGenerator.getType(column, row).name(),
+                        InitialPositionPieceGenerator.getColor(row).name()};
+            }
+        }
+        decoded = decodeRows();
+    }
+
+    @Benchmark
+    public Map<Square, Piece> decodeRows() {
+        Map<Square, Piece> board = new HashMap<>();
+        for (String[] row : rows) {
+            PieceDao.putPiece(board, row[0], row[1], row[2]);
+        }
+        return board;
+    }
+
+    @Benchmark
+    public Board createSavedBoard() {
+        return new Board(new SavedBoardGenerator(decoded));
+    }
+
+    @Benchmark
+    public Board decodeAndCreateSavedBoard() {
+        return new Board(new SavedBoardGenerator(decodeRows()));
+    }
+}
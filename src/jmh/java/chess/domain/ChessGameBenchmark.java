@@ -0,0 +1,70 @@
+package chess.domain;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import chess.domain.board.InitialBoardGenerator;
+import chess.domain.move.PackedMove;
+import chess.domain.piece.Color;
+import chess.domain.position.Square;
+
+/**
+ * 게임 한 판에서 매 요청마다 지나가는 경로를 측정한다.
+ * 이동은 무르기와 짝을 지어 측정하므로, 반복해도 체스판이 초기 배치에서 벗어나지 않는다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChessGameBenchmark {
+    private ChessGame chessGame;
+    private GameResult gameResult;
+    private Square source;
+    private Square target;
+    private int move;
+
+    @Setup
+    public void setUp() {
+        chessGame = new ChessGame(new InitialBoardGenerator(), GameTurn.WHITE);
+        gameResult = new GameResult(chessGame.getBoard(), chessGame.getPawnTable());
+        source = Square.of("g1");
+        target = Square.of("f3");
+        move = PackedMove.of(source, target);
+    }
+
+    @Benchmark
+    public GameTurn moveAndUndo() {
+        chessGame.move(source, target);
+        chessGame.undo();
+        return chessGame.getTurn();
+    }
+
+    @Benchmark
+    public GameTurn movePackedAndUndo() {
+        chessGame.move(move);
+        chessGame.undo();
+        return chessGame.getTurn();
+    }
+
+    @Benchmark
+    public void checkCanMove() {
+        chessGame.getBoard().checkCanMove(source, target);
+    }
+
+    @Benchmark
+    public double calculateScore() {
+        return gameResult.calculateScore(Color.WHITE);
+    }
+
+    @Benchmark
+    public Map<String, String> getEmojis() {
+        return chessGame.getEmojis();
+    }
+}
@@ -0,0 +1,78 @@
+package chess.domain.board;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import chess.domain.move.MoveResult;
+import chess.domain.piece.Piece;
+import chess.domain.position.Column;
+import chess.domain.position.Row;
+import chess.domain.position.Square;
+
+/**
+ * 이동 검증 경로의 할당량을 측정한다. gc 프로파일러의 {@code gc.alloc.rate.norm} 값이 이동 한 번당 할당 바이트 수다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoveValidationBenchmark {
+    @Param({"MAP", "BITBOARD"})
+    private String placement;
+
+    private Board board;
+    private Square source;
+    private Square target;
+    private Square illegalTarget;
+
+    @Setup
+    public void setUp() {
+        Map<Square, Piece> pieces = new LinkedHashMap<>();
+        for (Row row : Row.values()) {
+            for (Column column : Column.values()) {
+                pieces.put(Square.of(column, row), Piece.createByPosition(Column.A, Row.FOUR));
+            }
+        }
+        pieces.put(Square.of("a1"), Piece.createByPosition(Column.D, Row.ONE));
+        pieces.put(Square.of("h8"), Piece.createByPosition(Column.D, Row.EIGHT));
+        BoardGenerator boardGenerator = new SavedBoardGenerator(pieces);
+        if ("BITBOARD".equals(placement)) {
+            boardGenerator = new BitboardGenerator(boardGenerator);
+        }
+        board = new Board(boardGenerator);
+        source = Square.of("a1");
+        target = Square.of("h8");
+        illegalTarget = Square.of("b3");
+    }
+
+    @Benchmark
+    public void checkCanMove() {
+        board.checkCanMove(source, target);
+    }
+
+    @Benchmark
+    public MoveResult validate() {
+        return board.validate(source, target);
+    }
+
+    @Benchmark
+    public MoveResult validateIllegal() {
+        return board.validate(source, illegalTarget);
+    }
+
+    @Benchmark
+    public void parseSquares(Blackhole blackhole) {
+        blackhole.consume(Square.of("a1"));
+        blackhole.consume(Square.of("h8"));
+    }
+}
@@ -0,0 +1,50 @@
+package chess.domain.board;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import chess.domain.GameResult;
+import chess.domain.piece.Color;
+
+/**
+ * 폰 구조를 표에서 꺼내는 비용과 매번 새로 세는 비용, 그리고 표를 쓰는 점수 계산의 비용을 잰다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PawnHashTableBenchmark {
+    private static final String FEN = "r1bqkb1r/pp3ppp/2n1pn2/2pp4/3P4/2P1PN2/PP3PPP/RNBQKB1R w";
+
+    private Board board;
+    private PawnHashTable pawnTable;
+    private GameResult gameResult;
+
+    @Setup
+    public void setUp() {
+        board = new Board(new FenBoardGenerator(FEN));
+        pawnTable = new PawnHashTable();
+        gameResult = new GameResult(board, pawnTable);
+    }
+
+    @Benchmark
+    public PawnStructure probe() {
+        return pawnTable.probe(board);
+    }
+
+    @Benchmark
+    public PawnStructure compute() {
+        return PawnStructure.of(board.getPawnKey(), board.getPawns(Color.BLACK), board.getPawns(Color.WHITE));
+    }
+
+    @Benchmark
+    public double calculateScore() {
+        return gameResult.calculateScore(Color.WHITE) - gameResult.calculateScore(Color.BLACK);
+    }
+}
@@ -0,0 +1,66 @@
+package chess.engine;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import chess.domain.ChessGame;
+import chess.domain.GameTurn;
+import chess.domain.board.FenBoardGenerator;
+
+/**
+ * 스레드 수에 따라 같은 깊이까지 걸리는 시간이 얼마나 줄어드는지 잰다.
+ * 결과의 ops/s 가 곧 초당 끝낸 고정 깊이 탐색 수이고, nodes 보조 카운터는 모든 스레드를 합친 nodes/s 다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LazySmpBenchmark {
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    @Param({"7"})
+    public int depth;
+
+    private ChessGame chessGame;
+    private LazySmpSearch search;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Nodes {
+        public long nodes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            nodes = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        chessGame = new ChessGame(
+                new FenBoardGenerator("r1bqkb1r/pppp1ppp/2n2n2/4p3/2B1P3/5N2/PPPP1PPP/RNBQK2R w"), GameTurn.WHITE);
+        search = new LazySmpSearch(threads);
+    }
+
+    @Setup(Level.Invocation)
+    public void clearTable() {
+        search.clear();
+    }
+
+    @Benchmark
+    public int searchToDepth(Nodes counter) {
+        SearchResult result = search.search(chessGame, SearchLimits.depth(depth));
+        counter.nodes += result.getNodes();
+        return result.getBestMove();
+    }
+}
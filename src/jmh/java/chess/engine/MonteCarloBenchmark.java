@@ -0,0 +1,61 @@
+package chess.engine;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import chess.domain.ChessGame;
+import chess.domain.GameTurn;
+import chess.domain.board.FenBoardGenerator;
+
+/**
+ * 스레드 수에 따른 MCTS 의 초당 플레이아웃 수를 잰다.
+ * playouts 보조 카운터가 곧 playouts/s 로 보고된다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MonteCarloBenchmark {
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    @Param({"100"})
+    public long millis;
+
+    private ChessGame chessGame;
+    private MonteCarloSearch search;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Playouts {
+        public long playouts;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            playouts = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        chessGame = new ChessGame(
+                new FenBoardGenerator("r1bqkb1r/pppp1ppp/2n2n2/4p3/2B1P3/5N2/PPPP1PPP/RNBQK2R w"), GameTurn.WHITE);
+        search = new MonteCarloSearch(threads);
+    }
+
+    @Benchmark
+    public int search(Playouts counter) {
+        SearchResult result = search.search(chessGame, SearchLimits.time(millis));
+        counter.playouts += result.getNodes();
+        return result.getBestMove();
+    }
+}
@@ -0,0 +1,75 @@
+package chess.engine;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import chess.domain.board.Board;
+import chess.domain.board.FenBoardGenerator;
+import chess.domain.move.PackedMove;
+import chess.domain.piece.Color;
+
+/**
+ * 신경망 평가의 누산기를 수마다 갱신하는 비용과 처음부터 다시 계산하는 비용을 비교한다.
+ * makeUnmake 는 평가 함수가 붙지 않은 체스판의 기준값이므로, 두 값의 차이가 한 수를 두고 무를 때의 갱신 비용이다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NeuralEvaluatorBenchmark {
+    private static final String FEN = "r1bqkb1r/pppp1ppp/2n2n2/4p3/2B1P3/5N2/PPPP1PPP/RNBQK2R w";
+
+    private Board plainBoard;
+    private Board attachedBoard;
+    private NeuralEvaluator evaluator;
+    private int quietMove;
+    private int capture;
+
+    @Setup
+    public void setUp() {
+        plainBoard = new Board(new FenBoardGenerator(FEN));
+        attachedBoard = new Board(new FenBoardGenerator(FEN));
+        evaluator = new NeuralEvaluator();
+        evaluator.attach(attachedBoard);
+        quietMove = PackedMove.parse("b1c3");
+        capture = PackedMove.parse("f3e5") | PackedMove.CAPTURE;
+    }
+
+    @Benchmark
+    public long makeUnmake() {
+        plainBoard.make(quietMove);
+        plainBoard.unmake();
+        return plainBoard.getZobristKey();
+    }
+
+    @Benchmark
+    public long makeUnmakeIncremental() {
+        attachedBoard.make(quietMove);
+        attachedBoard.unmake();
+        return attachedBoard.getZobristKey();
+    }
+
+    @Benchmark
+    public long captureIncremental() {
+        attachedBoard.make(capture);
+        attachedBoard.unmake();
+        return attachedBoard.getZobristKey();
+    }
+
+    @Benchmark
+    public int fullRefresh() {
+        evaluator.refresh(attachedBoard);
+        return evaluator.evaluate(attachedBoard, Color.WHITE);
+    }
+
+    @Benchmark
+    public int evaluate() {
+        return evaluator.evaluate(attachedBoard, Color.WHITE);
+    }
+}
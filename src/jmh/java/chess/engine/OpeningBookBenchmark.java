@@ -0,0 +1,78 @@
+package chess.engine;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import chess.domain.ChessGame;
+import chess.domain.GameTurn;
+import chess.domain.board.FenBoardGenerator;
+import chess.domain.board.InitialBoardGenerator;
+
+/**
+ * 함께 들어 있는 게임들로 만든 북에서, 북에 있는 위치와 없는 위치를 찾는 비용을 잰다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OpeningBookBenchmark {
+    private static final String GAMES = "/engine/openings.txt";
+    private static final int MAX_PLIES = 16;
+
+    private Path path;
+    private OpeningBook book;
+    private SplittableRandom random;
+    private long knownKey;
+    private long unknownKey;
+
+    @Setup
+    public void setUp() throws IOException {
+        path = Files.createTempFile("book", ".bin");
+        new OpeningBookBuilder(MAX_PLIES).addGames(readGames()).write(path);
+        book = OpeningBook.open(path);
+        random = new SplittableRandom(1);
+        knownKey = new ChessGame(new InitialBoardGenerator(), GameTurn.WHITE).getZobristKey();
+        unknownKey = new ChessGame(new FenBoardGenerator("4k3/8/8/8/8/8/8/4K3 w"), GameTurn.WHITE).getZobristKey();
+    }
+
+    private static List<String> readGames() throws IOException {
+        try (InputStream input = OpeningBookBenchmark.class.getResourceAsStream(GAMES)) {
+            return Arrays.asList(new String(input.readAllBytes(), StandardCharsets.UTF_8).split("\n"));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public int probeKnown() {
+        return book.probe(knownKey);
+    }
+
+    @Benchmark
+    public int probeKnownWeighted() {
+        return book.probe(knownKey, random);
+    }
+
+    @Benchmark
+    public int probeUnknown() {
+        return book.probe(unknownKey);
+    }
+}
@@ -0,0 +1,66 @@
+package chess.engine;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import chess.domain.ChessGame;
+import chess.domain.GameTurn;
+import chess.domain.board.FenBoardGenerator;
+
+/**
+ * 고정 깊이 탐색의 초당 노드 수를 잰다.
+ * nodes 보조 카운터가 곧 nodes/s 로 보고되고, 매 탐색 전에 치환표를 비워 앞선 호출의 결과를 다시 쓰지 않게 한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SearchBenchmark {
+    @Param({"rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w",
+            "r1bqkb1r/pppp1ppp/2n2n2/4p3/2B1P3/5N2/PPPP1PPP/RNBQK2R w"})
+    public String fen;
+
+    @Param({"5"})
+    public int depth;
+
+    private ChessGame chessGame;
+    private AlphaBetaSearch search;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Nodes {
+        public long nodes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            nodes = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        chessGame = new ChessGame(new FenBoardGenerator(fen), GameTurn.WHITE);
+        search = new AlphaBetaSearch();
+    }
+
+    @Setup(Level.Invocation)
+    public void clearTable() {
+        search.clear();
+    }
+
+    @Benchmark
+    public int search(Nodes counter) {
+        SearchResult result = search.search(chessGame, SearchLimits.depth(depth));
+        counter.nodes += result.getNodes();
+        return result.getBestMove();
+    }
+}
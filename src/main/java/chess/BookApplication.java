@@ -0,0 +1,42 @@
+package chess;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import chess.engine.OpeningBookBuilder;
+
+public class BookApplication {
+    private static final String ERROR_MESSAGE_GAMES = "[ERROR] 내장된 오프닝 파일을 찾을 수 없어~";
+    private static final String DEFAULT_GAMES = "/engine/openings.txt";
+    private static final String DEFAULT_PATH = "book.bin";
+    private static final int MAX_PLIES = 16;
+
+    public static void main(String[] args) throws IOException {
+        Path path = Paths.get(DEFAULT_PATH);
+        if (args.length > 0) {
+            path = Paths.get(args[0]);
+        }
+        List<String> games = readBundledGames();
+        if (args.length > 1) {
+            games = Files.readAllLines(Paths.get(args[1]));
+        }
+        new OpeningBookBuilder(MAX_PLIES)
+                .addGames(games)
+                .write(path);
+    }
+
+    private static List<String> readBundledGames() throws IOException {
+        try (InputStream input = BookApplication.class.getResourceAsStream(DEFAULT_GAMES)) {
+            if (input == null) {
+                throw new IllegalStateException(ERROR_MESSAGE_GAMES);
+            }
+            return Arrays.asList(new String(input.readAllBytes(), StandardCharsets.UTF_8).split("\n"));
+        }
+    }
+}
@@ -1,8 +1,25 @@
 package chess;
 
+import chess.engine.Bench;
+import chess.view.OutputView;
+
 public class ConsoleApplication {
+    private static final String BENCH = "bench";
+
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals(BENCH)) {
+            runBench(args);
+            return;
+        }
         ChessGameLauncher chessGameLauncher = new ChessGameLauncher();
         chessGameLauncher.run();
     }
+
+    private static void runBench(String[] args) {
+        int depth = Bench.DEFAULT_DEPTH;
+        if (args.length > 1) {
+            depth = Integer.parseInt(args[1]);
+        }
+        OutputView.showBench(new Bench().run(depth));
+    }
 }
@@ -0,0 +1,24 @@
+package chess;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import chess.engine.HandcraftedNetwork;
+
+public class NetworkApplication {
+    private static final String DEFAULT_PATH = "src/main/resources/engine/network.bin";
+
+    public static void main(String[] args) throws IOException {
+        Path path = Paths.get(DEFAULT_PATH);
+        if (args.length > 0) {
+            path = Paths.get(args[0]);
+        }
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        try (OutputStream output = Files.newOutputStream(path)) {
+            HandcraftedNetwork.create().write(output);
+        }
+    }
+}
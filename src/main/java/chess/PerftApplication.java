@@ -0,0 +1,36 @@
+package chess;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import chess.domain.board.BitboardGenerator;
+import chess.domain.board.Board;
+import chess.domain.board.FenBoardGenerator;
+import chess.domain.perft.Perft;
+import chess.domain.perft.PerftResult;
+import chess.view.OutputView;
+
+public class PerftApplication {
+    private static final String INITIAL_FEN = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w";
+    private static final int DEFAULT_DEPTH = 5;
+
+    public static void main(String[] args) {
+        int depth = DEFAULT_DEPTH;
+        if (args.length > 0) {
+            depth = Integer.parseInt(args[0]);
+        }
+        String fen = INITIAL_FEN;
+        if (args.length > 1) {
+            fen = String.join(" ", List.of(args).subList(1, args.length));
+        }
+
+        FenBoardGenerator boardGenerator = new FenBoardGenerator(fen);
+        Perft perft = new Perft(new Board(new BitboardGenerator(boardGenerator)));
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        List<PerftResult> results = perft.measure(boardGenerator.getTurn(), depth, pool);
+        pool.shutdown();
+
+        OutputView.showDivide(results.get(results.size() - 1).getDivided());
+        results.forEach(OutputView::showPerft);
+    }
+}
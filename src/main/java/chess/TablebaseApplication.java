@@ -0,0 +1,32 @@
+package chess;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import chess.engine.EndgameMaterial;
+import chess.engine.EndgameTableGenerator;
+
+public class TablebaseApplication {
+    private static final String DEFAULT_DIRECTORY = "tablebase";
+
+    public static void main(String[] args) throws IOException {
+        Path directory = Paths.get(DEFAULT_DIRECTORY);
+        if (args.length > 0) {
+            directory = Paths.get(args[0]);
+        }
+        int threads = Runtime.getRuntime().availableProcessors();
+        if (args.length > 1) {
+            threads = Integer.parseInt(args[1]);
+        }
+        Files.createDirectories(directory);
+        EndgameTableGenerator generator = new EndgameTableGenerator(threads);
+        for (EndgameMaterial material : EndgameMaterial.values()) {
+            try (OutputStream output = Files.newOutputStream(directory.resolve(material.getFileName()))) {
+                generator.generate(material).write(output);
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package chess;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import chess.engine.AlphaBetaSearch;
+import chess.engine.Engine;
+import chess.engine.MonteCarloSearch;
+import chess.engine.NeuralEvaluator;
+import chess.engine.SearchLimits;
+import chess.engine.SimpleEvaluator;
+import chess.engine.TranspositionTable;
+import chess.tournament.PgnWriter;
+import chess.tournament.Player;
+import chess.tournament.Tournament;
+import chess.tournament.TournamentResult;
+import chess.view.OutputView;
+
+public class TournamentApplication {
+    private static final String ERROR_MESSAGE_ENGINE = "[ERROR] 엔진 이름은 nnue, simple, mcts 중 하나여야 해~";
+    private static final String ERROR_MESSAGE_LIMIT = "[ERROR] 제한은 depth=N, nodes=N, millis=N 중 하나로 적어줘~";
+    private static final String ERROR_MESSAGE_BUDGET = "[ERROR] mcts 는 depth 가 아니라 nodes=N 이나 millis=N 으로 제한해줘~";
+    private static final String ERROR_MESSAGE_OPENINGS = "[ERROR] 내장된 오프닝 파일을 찾을 수 없어~";
+    private static final String OPENINGS = "/engine/openings.txt";
+    private static final String EVENT = "Self-play";
+    private static final String LIMIT_SEPARATOR = "=";
+    private static final int DEFAULT_GAMES = 100;
+    private static final String DEFAULT_LIMIT = "nodes=20000";
+    private static final String DEFAULT_PGN = "tournament.pgn";
+    private static final String DEFAULT_FIRST = "nnue";
+    private static final String DEFAULT_SECOND = "simple";
+    private static final String MCTS = "mcts";
+    private static final int HASH_MEGABYTES = 4;
+    private static final Map<String, Supplier<Engine>> ENGINES = Map.of(
+            "nnue", () -> new AlphaBetaSearch(new NeuralEvaluator(), new TranspositionTable(HASH_MEGABYTES)),
+            "simple", () -> new AlphaBetaSearch(new SimpleEvaluator(), new TranspositionTable(HASH_MEGABYTES)),
+            MCTS, () -> new MonteCarloSearch(1));
+    private static final Map<String, Function<Long, SearchLimits>> LIMITS = Map.of(
+            "depth", value -> SearchLimits.depth(value.intValue()),
+            "nodes", SearchLimits::nodes,
+            "millis", SearchLimits::time);
+
+    public static void main(String[] args) throws IOException {
+        int games = Integer.parseInt(argument(args, 0, String.valueOf(DEFAULT_GAMES)));
+        SearchLimits limits = parseLimits(argument(args, 1, DEFAULT_LIMIT));
+        String pgn = argument(args, 2, DEFAULT_PGN);
+        Player first = createPlayer(argument(args, 3, DEFAULT_FIRST), limits);
+        Player second = createPlayer(argument(args, 4, DEFAULT_SECOND), limits);
+        int threads = Integer.parseInt(argument(args, 5, String.valueOf(Runtime.getRuntime().availableProcessors())));
+
+        TournamentResult result = new Tournament(first, second, limits, readOpenings(), threads).play(games);
+        try (Writer writer = Files.newBufferedWriter(Paths.get(pgn), StandardCharsets.UTF_8)) {
+            new PgnWriter(EVENT, LocalDate.now()).write(result.getRecords(), writer);
+        }
+        OutputView.showTournament(result);
+    }
+
+    private static String argument(String[] args, int index, String defaultValue) {
+        if (args.length > index) {
+            return args[index];
+        }
+        return defaultValue;
+    }
+
+    private static SearchLimits parseLimits(String limit) {
+        String[] fields = limit.split(LIMIT_SEPARATOR);
+        if (fields.length != 2 || !LIMITS.containsKey(fields[0])) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_LIMIT);
+        }
+        return LIMITS.get(fields[0]).apply(Long.parseLong(fields[1]));
+    }
+
+    private static Player createPlayer(String name, SearchLimits limits) {
+        Supplier<Engine> engine = ENGINES.get(name);
+        if (engine == null) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_ENGINE);
+        }
+        if (name.equals(MCTS) && !limits.hasBudget()) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_BUDGET);
+        }
+        return new Player(name, engine);
+    }
+
+    private static List<String> readOpenings() throws IOException {
+        try (InputStream input = TournamentApplication.class.getResourceAsStream(OPENINGS)) {
+            if (input == null) {
+                throw new IllegalStateException(ERROR_MESSAGE_OPENINGS);
+            }
+            return Arrays.asList(new String(input.readAllBytes(), StandardCharsets.UTF_8).split("\n"));
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package chess;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+import chess.uci.UciEngine;
+
+public class UciApplication {
+
+    public static void main(String[] args) throws IOException {
+        UciEngine uciEngine = new UciEngine(System.out);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        String line = reader.readLine();
+        while (line != null && uciEngine.handle(line)) {
+            line = reader.readLine();
+        }
+    }
+}
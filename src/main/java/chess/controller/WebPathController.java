@@ -5,8 +5,8 @@ import java.util.Map;
 
 import chess.domain.ChessGame;
 import chess.domain.GameResult;
+import chess.domain.move.MoveResult;
 import chess.domain.piece.Color;
-import chess.domain.position.Square;
 import chess.service.DBService;
 import spark.ModelAndView;
 import spark.Route;
@@ -80,15 +80,14 @@ public class WebPathController {
 
             ChessGame chessGame = getSavedGame(gameID);
 
-            try {
-                chessGame.move(new Square(source), new Square(target));
+            MoveResult result = chessGame.tryMove(source, target);
+            if (result.isLegal()) {
                 DBService.movePiece(gameID, source, target);
                 DBService.updateTurn(gameID, chessGame);
-
-                addBoardStatus(model, chessGame);
-            } catch (IllegalArgumentException e) {
-                addBoardStatus(model, chessGame);
-                model.put("message", e.getMessage());
+            }
+            addBoardStatus(model, chessGame);
+            if (!result.isLegal()) {
+                model.put("message", result.getMessage());
             }
             String path = getPath(model, chessGame);
             return render(model, path);
@@ -100,6 +99,25 @@ public class WebPathController {
             model.put("message", "킹 잡았다!! 게임 끝~!~!");
             return PATH_FINISHED;
         }
+        if (chessGame.isCheckmate()) {
+            model.put("message", "체크메이트!! 게임 끝~!~!");
+            return PATH_FINISHED;
+        }
+        if (chessGame.isStalemate()) {
+            model.put("message", "스테일메이트!! 비겼다~!~!");
+            return PATH_FINISHED;
+        }
+        if (chessGame.isRepetition()) {
+            model.put("message", "같은 위치가 세 번!! 비겼다~!~!");
+            return PATH_FINISHED;
+        }
+        if (chessGame.isFiftyMove()) {
+            model.put("message", "50수 동안 아무 일도 없었다!! 비겼다~!~!");
+            return PATH_FINISHED;
+        }
+        if (chessGame.isInCheck()) {
+            model.put("message", "체크!! 킹을 지켜~!~!");
+        }
         return PATH_IN_GAME;
     }
 
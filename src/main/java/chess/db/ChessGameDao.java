@@ -1,20 +1,49 @@
 package chess.db;
 
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
 import chess.domain.ChessGame;
+import chess.domain.PositionHistory;
 
+/**
+ * halfmoveClock, positions 열이 없는 이전 스키마에서는 차례만 읽고 쓰며, 기록은 빈 기록으로 돌려준다.
+ * 열은 docker/db/mysql/migration 의 스크립트로 더할 수 있다.
+ */
 public class ChessGameDao {
+    private static final String TABLE = "chessGame";
+    private static final String HISTORY_COLUMN = "positions";
+
     private final DBConnector dbConnector;
+    private volatile Boolean historyColumns;
 
     public ChessGameDao() {
         this.dbConnector = new DBConnector();
     }
 
     public void save(String gameID, ChessGame chessGame) {
+        if (!hasHistoryColumns()) {
+            saveTurn(gameID, chessGame);
+            return;
+        }
+        String sql = "insert into chessGame (gameID, turn, halfmoveClock, positions) values (?, ?, ?, ?)";
+        try (Connection connection = dbConnector.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            PositionHistory history = chessGame.getHistory();
+            statement.setString(1, gameID);
+            statement.setString(2, chessGame.getTurn().name());
+            statement.setInt(3, history.getHalfmoveClock());
+            statement.setString(4, history.toSavedKeys());
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void saveTurn(String gameID, ChessGame chessGame) {
         String sql = "insert into chessGame (gameID, turn) values (?, ?)";
         try (Connection connection = dbConnector.getConnection();
              PreparedStatement statement = connection.prepareStatement(sql)) {
@@ -27,6 +56,25 @@ public class ChessGameDao {
     }
 
     public void updateTurn(String gameID, ChessGame chessGame) {
+        if (!hasHistoryColumns()) {
+            updateTurnOnly(gameID, chessGame);
+            return;
+        }
+        String sql = "update chessGame set turn = ?, halfmoveClock = ?, positions = ? where gameID = ?";
+        try (Connection connection = dbConnector.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            PositionHistory history = chessGame.getHistory();
+            statement.setString(1, chessGame.getTurn().name());
+            statement.setInt(2, history.getHalfmoveClock());
+            statement.setString(3, history.toSavedKeys());
+            statement.setString(4, gameID);
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void updateTurnOnly(String gameID, ChessGame chessGame) {
         String sql = "update chessGame set turn = ? where gameID = ?";
         try (Connection connection = dbConnector.getConnection();
              PreparedStatement statement = connection.prepareStatement(sql)) {
@@ -54,6 +102,63 @@ public class ChessGameDao {
         return turn;
     }
 
+    public PositionHistory findHistoryByID(String gameID) {
+        PositionHistory history = PositionHistory.empty();
+        if (!hasHistoryColumns()) {
+            return history;
+        }
+        String sql = "select halfmoveClock, positions from chessGame where gameID = ?";
+        try (Connection connection = dbConnector.getConnection();
+             PreparedStatement statement = getPreparedStatement(gameID, sql, connection);
+             ResultSet resultSet = statement.executeQuery()) {
+            if (!resultSet.next()) {
+                return history;
+            }
+            history = PositionHistory.restore(resultSet.getString("positions"), resultSet.getInt("halfmoveClock"));
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return history;
+    }
+
+    /**
+     * 열을 찾는 데 실패하면 기억하지 않고, 데이터베이스가 살아난 뒤 다음 호출에서 다시 찾는다.
+     */
+    private boolean hasHistoryColumns() {
+        Boolean columns = historyColumns;
+        if (columns == null) {
+            columns = findHistoryColumns();
+        }
+        if (columns == null) {
+            return false;
+        }
+        historyColumns = columns;
+        return columns;
+    }
+
+    private Boolean findHistoryColumns() {
+        try (Connection connection = dbConnector.getConnection()) {
+            if (connection == null) {
+                return null;
+            }
+            return hasColumns(connection);
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    private boolean hasColumns(Connection connection) throws SQLException {
+        try (ResultSet columns = findColumns(connection)) {
+            return columns.next();
+        }
+    }
+
+    private ResultSet findColumns(Connection connection) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        return metaData.getColumns(connection.getCatalog(), null, TABLE, HISTORY_COLUMN);
+    }
+
     private PreparedStatement getPreparedStatement(String gameID, String selectPiecesSql, Connection connection) throws
             SQLException {
         PreparedStatement piecesStatement = connection.prepareStatement(selectPiecesSql);
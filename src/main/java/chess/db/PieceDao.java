@@ -40,7 +40,7 @@ public class PieceDao {
 
     private void insertPiecesInRow(String gameID, PreparedStatement statement, Column column) throws SQLException {
         for (Row row : Row.values()) {
-            statement.setString(1, new Square(column, row).getName());
+            statement.setString(1, Square.of(column, row).getName());
             statement.setString(2, InitialPositionPieceGenerator.getType(column, row).name());
             statement.setString(3, InitialPositionPieceGenerator.getColor(row).name());
             statement.setString(4, gameID);
@@ -122,10 +122,14 @@ public class PieceDao {
             String position = resultSet.getString("position");
             String type = resultSet.getString("type");
             String color = resultSet.getString("color");
-            board.put(new Square(position), Piece.createByTypeAndColor(type, color));
+            putPiece(board, position, type, color);
         }
     }
 
+    static void putPiece(Map<Square, Piece> board, String position, String type, String color) {
+        board.put(Square.of(position), Piece.createByTypeAndColor(type, color));
+    }
+
     private void checkGameExist(Map<Square, Piece> board) {
         if (board.isEmpty()) {
             throw new IllegalArgumentException(ERROR_MESSAGE_NO_SAVED_GAME);
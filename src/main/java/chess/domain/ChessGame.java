@@ -5,36 +5,103 @@ import java.util.stream.Collectors;
 
 import chess.domain.board.Board;
 import chess.domain.board.BoardGenerator;
+import chess.domain.board.PawnHashTable;
+import chess.domain.move.MoveResult;
+import chess.domain.move.PackedMove;
 import chess.domain.position.Square;
 
 public final class ChessGame {
-    private static final String ERROR_MESSAGE_TURN = "순서 지키시지?!";
+    private static final int REPETITION_LIMIT = 3;
+    private static final int HALFMOVE_LIMIT = 100;
 
-    private Board board;
+    private final Board board;
+    private final PositionHistory history;
     private GameTurn turn;
+    private PawnHashTable pawnTable;
 
     public ChessGame(BoardGenerator boardGenerator, GameTurn gameTurn) {
-        this.board = new Board(boardGenerator);
+        this(boardGenerator, gameTurn, PositionHistory.empty());
+    }
+
+    public ChessGame(BoardGenerator boardGenerator, GameTurn gameTurn, PositionHistory history) {
         this.turn = gameTurn;
         if (turn.equals(GameTurn.READY)) {
             this.turn = GameTurn.WHITE;
         }
+        this.board = new Board(boardGenerator, turn.getColor());
+        this.history = history;
+        history.start(board.getZobristKey());
     }
 
     public void move(Square source, Square target) {
-        checkTurn(source);
-        board.checkCanMove(source, target);
+        move(PackedMove.of(source, target));
+    }
+
+    public void move(int move) {
+        tryMove(move).check();
+    }
+
+    public MoveResult tryMove(String source, String target) {
+        if (!Square.isOnBoard(source) || !Square.isOnBoard(target)) {
+            return MoveResult.OFF_BOARD;
+        }
+        return tryMove(PackedMove.of(Square.of(source), Square.of(target)));
+    }
+
+    public MoveResult tryMove(int move) {
+        MoveResult result = validate(move);
+        if (result.isLegal()) {
+            play(move);
+        }
+        return result;
+    }
+
+    public MoveResult validate(int move) {
+        if (!board.isRightTurn(PackedMove.source(move), turn.getColor())) {
+            return MoveResult.WRONG_TURN;
+        }
+        return board.validate(move);
+    }
+
+    private void play(int move) {
+        boolean irreversible = board.isIrreversible(move);
         turn = turn.switchColor();
-        checkKingDie(target);
-        board = board.move(source, target);
+        checkKingDie(PackedMove.target(move));
+        board.make(move);
+        history.push(board.getZobristKey(), irreversible);
+        checkGameEnd();
+    }
+
+    private void checkGameEnd() {
+        if (turn.isEnd()) {
+            return;
+        }
+        if (board.isCheckmate(turn.getColor())) {
+            turn = GameTurn.CHECKMATE;
+            return;
+        }
+        if (board.isStalemate(turn.getColor())) {
+            turn = GameTurn.STALEMATE;
+            return;
+        }
+        checkDraw();
     }
 
-    private void checkTurn(Square source) {
-        if (!board.isRightTurn(source, turn.getColor())) {
-            throw new IllegalArgumentException(ERROR_MESSAGE_TURN);
+    private void checkDraw() {
+        if (history.countRepetitions() >= REPETITION_LIMIT) {
+            turn = GameTurn.REPETITION;
+            return;
+        }
+        if (history.getHalfmoveClock() >= HALFMOVE_LIMIT) {
+            turn = GameTurn.FIFTY_MOVE;
         }
     }
 
+    public void undo() {
+        turn = GameTurn.from(board.unmake());
+        history.pop();
+    }
+
     private void checkKingDie(Square target) {
         if (board.isTargetKing(target)) {
             turn = GameTurn.FINISHED;
@@ -45,6 +112,30 @@ public final class ChessGame {
         return turn == GameTurn.FINISHED;
     }
 
+    public boolean isCheckmate() {
+        return turn == GameTurn.CHECKMATE;
+    }
+
+    public boolean isStalemate() {
+        return turn == GameTurn.STALEMATE;
+    }
+
+    public boolean isRepetition() {
+        return turn == GameTurn.REPETITION;
+    }
+
+    public boolean isFiftyMove() {
+        return turn == GameTurn.FIFTY_MOVE;
+    }
+
+    public boolean isFinished() {
+        return turn.isEnd();
+    }
+
+    public boolean isInCheck() {
+        return !turn.isEnd() && board.isInCheck(turn.getColor());
+    }
+
     public boolean isInGame() {
         return turn != GameTurn.READY;
     }
@@ -55,6 +146,21 @@ public final class ChessGame {
                 .collect(Collectors.toMap(entry -> entry.getKey().getName(), entry -> entry.getValue().getEmoji()));
     }
 
+    public long getZobristKey() {
+        return board.getZobristKey();
+    }
+
+    public PositionHistory getHistory() {
+        return history;
+    }
+
+    public PawnHashTable getPawnTable() {
+        if (pawnTable == null) {
+            pawnTable = new PawnHashTable();
+        }
+        return pawnTable;
+    }
+
     public Board getBoard() {
         return board;
     }
@@ -1,58 +1,34 @@
 package chess.domain;
 
-import java.util.List;
-import java.util.Map;
-import java.util.function.Predicate;
-
 import chess.domain.board.Board;
+import chess.domain.board.PawnHashTable;
+import chess.domain.board.PawnStructure;
 import chess.domain.piece.Color;
-import chess.domain.piece.Piece;
-import chess.domain.position.Column;
-import chess.domain.position.Square;
 
 public final class GameResult {
     private static final double PAWN_PENALTY_SCORE = 0.5;
+    private static final int SINGLE_ENTRY = 1;
 
     private final Board board;
+    private final PawnHashTable pawnTable;
 
+    /**
+     * 한 번만 점수를 매길 때는 두 색깔이 같은 폰 구조를 나눠 쓰도록 한 칸짜리 표면 충분하다.
+     */
     public GameResult(Board board) {
-        this.board = board;
-    }
-
-    public double calculateScore(Color color) {
-        List<Map.Entry<Square, Piece>> survives = board.filterBy(color);
-        return adjustSum(getSum(survives), survives);
+        this(board, new PawnHashTable(SINGLE_ENTRY));
     }
 
-    private double getSum(List<Map.Entry<Square, Piece>> survives) {
-        return survives.stream()
-                .map(Map.Entry::getValue)
-                .mapToDouble(Piece::getScore)
-                .sum();
-    }
-
-    private double adjustSum(double sum, List<Map.Entry<Square, Piece>> survives) {
-        for (Column column : Column.values()) {
-            int count = countPawnInSameFile(survives, column);
-            sum = subtractPawnInSameFile(sum, count);
-        }
-        return sum;
-    }
-
-    private int countPawnInSameFile(List<Map.Entry<Square, Piece>> survives, Column column) {
-        return (int) survives.stream()
-                .filter(hasPawnInSamFile(column))
-                .count();
+    public GameResult(Board board, PawnHashTable pawnTable) {
+        this.board = board;
+        this.pawnTable = pawnTable;
     }
 
-    private Predicate<Map.Entry<Square, Piece>> hasPawnInSamFile(Column column) {
-        return entry -> entry.getValue().isPawn() && entry.getKey().checkFile(column);
+    public double calculateScore(Color color) {
+        return calculateScore(board, pawnTable.probe(board), color);
     }
 
-    private double subtractPawnInSameFile(double sum, int count) {
-        if (count > 1) {
-            sum -= PAWN_PENALTY_SCORE * count;
-        }
-        return sum;
+    public static double calculateScore(Board board, PawnStructure pawnStructure, Color color) {
+        return board.getMaterialScore(color) - PAWN_PENALTY_SCORE * pawnStructure.getDoubledPawns(color);
     }
 }
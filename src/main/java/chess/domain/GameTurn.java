@@ -1,6 +1,9 @@
 package chess.domain;
 
 import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import chess.domain.piece.Color;
 
@@ -8,9 +11,15 @@ public enum GameTurn {
     READY(Color.NONE),
     WHITE(Color.WHITE),
     BLACK(Color.BLACK),
-    FINISHED(Color.NONE);
+    FINISHED(Color.NONE),
+    CHECKMATE(Color.NONE),
+    STALEMATE(Color.NONE),
+    REPETITION(Color.NONE),
+    FIFTY_MOVE(Color.NONE);
 
     private static final String ERROR_MESSAGE_NO_SAVED_GAME = "헉.. 저장 안한거 아냐? 그런 게임은 없어!";
+    private static final Map<String, GameTurn> GAME_TURNS = Arrays.stream(values())
+            .collect(Collectors.toMap(GameTurn::name, Function.identity()));
 
     private final Color color;
 
@@ -19,10 +28,18 @@ public enum GameTurn {
     }
 
     public static GameTurn find(String name) {
-        return Arrays.stream(values())
-                .filter(gameTurn -> gameTurn.name().equals(name))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException(ERROR_MESSAGE_NO_SAVED_GAME));
+        GameTurn gameTurn = GAME_TURNS.get(name);
+        if (gameTurn == null) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_NO_SAVED_GAME);
+        }
+        return gameTurn;
+    }
+
+    public static GameTurn from(Color color) {
+        if (color == Color.BLACK) {
+            return BLACK;
+        }
+        return WHITE;
     }
 
     public GameTurn switchColor() {
@@ -32,6 +49,14 @@ public enum GameTurn {
         return WHITE;
     }
 
+    public boolean isEnd() {
+        return this == FINISHED || this == CHECKMATE || isDraw();
+    }
+
+    public boolean isDraw() {
+        return this == STALEMATE || this == REPETITION || this == FIFTY_MOVE;
+    }
+
     public Color getColor() {
         return this.color;
     }
@@ -0,0 +1,115 @@
+package chess.domain;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 지나온 위치의 Zobrist 키와 50수 규칙용 반수 시계를 기록한다.
+ * 키마다 나온 횟수를 함께 세어 두므로, 지금 위치가 몇 번째인지는 한 번의 조회로 알 수 있다.
+ */
+public final class PositionHistory {
+    private static final int INITIAL_CAPACITY = 128;
+    private static final int RADIX = 16;
+    private static final String SEPARATOR = ",";
+
+    private final Map<Long, Integer> counts;
+    private long[] keys;
+    private int[] halfmoveClocks;
+    private int size;
+
+    private PositionHistory() {
+        this.counts = new HashMap<>();
+        this.keys = new long[INITIAL_CAPACITY];
+        this.halfmoveClocks = new int[INITIAL_CAPACITY];
+    }
+
+    public static PositionHistory empty() {
+        return new PositionHistory();
+    }
+
+    public static PositionHistory restore(String savedKeys, int halfmoveClock) {
+        PositionHistory history = new PositionHistory();
+        if (savedKeys == null || savedKeys.isBlank()) {
+            history.halfmoveClocks[0] = halfmoveClock;
+            return history;
+        }
+        String[] hexKeys = savedKeys.split(SEPARATOR);
+        int firstClock = Math.max(halfmoveClock - hexKeys.length + 1, 0);
+        for (int index = 0; index < hexKeys.length; index++) {
+            history.add(Long.parseUnsignedLong(hexKeys[index], RADIX), firstClock + index);
+        }
+        return history;
+    }
+
+    void start(long currentKey) {
+        if (size > 0 && keys[size - 1] == currentKey) {
+            return;
+        }
+        int halfmoveClock = 0;
+        if (size == 0) {
+            halfmoveClock = halfmoveClocks[0];
+        }
+        clear();
+        add(currentKey, halfmoveClock);
+    }
+
+    void push(long key, boolean irreversible) {
+        int halfmoveClock = halfmoveClocks[size - 1] + 1;
+        if (irreversible) {
+            halfmoveClock = 0;
+        }
+        add(key, halfmoveClock);
+    }
+
+    void pop() {
+        if (size <= 1) {
+            return;
+        }
+        size--;
+        counts.computeIfPresent(keys[size], (key, count) -> decrease(count));
+    }
+
+    private static Integer decrease(int count) {
+        if (count == 1) {
+            return null;
+        }
+        return count - 1;
+    }
+
+    private void add(long key, int halfmoveClock) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            halfmoveClocks = Arrays.copyOf(halfmoveClocks, size * 2);
+        }
+        keys[size] = key;
+        halfmoveClocks[size] = halfmoveClock;
+        size++;
+        counts.merge(key, 1, Integer::sum);
+    }
+
+    private void clear() {
+        counts.clear();
+        size = 0;
+    }
+
+    public boolean contains(long key) {
+        return counts.containsKey(key);
+    }
+
+    public int countRepetitions() {
+        return counts.getOrDefault(keys[size - 1], 0);
+    }
+
+    public int getHalfmoveClock() {
+        return halfmoveClocks[size - 1];
+    }
+
+    public String toSavedKeys() {
+        int from = Math.max(size - 1 - getHalfmoveClock(), 0);
+        return Arrays.stream(keys, from, size)
+                .mapToObj(key -> Long.toUnsignedString(key, RADIX))
+                .collect(Collectors.joining(SEPARATOR));
+    }
+}
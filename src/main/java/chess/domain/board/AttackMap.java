@@ -0,0 +1,123 @@
+package chess.domain.board;
+
+import java.util.List;
+
+import chess.domain.piece.Color;
+import chess.domain.piece.Piece;
+import chess.domain.piece.PieceType;
+import chess.domain.position.Movement;
+import chess.domain.position.Square;
+import chess.domain.position.UnitDirection;
+
+/**
+ * 칸마다 그 칸의 말이 공격하는 칸들을 비트보드로 들고 있다.
+ * 수를 두면 출발 칸, 도착 칸, 그리고 두 칸을 지나던 슬라이딩 말의 공격 범위만 다시 계산한다.
+ */
+final class AttackMap {
+    private static final int COLOR_COUNT = 2;
+    private static final List<PieceType> STEPPING_TYPES = List.of(PieceType.KING, PieceType.KNIGHT, PieceType.PAWN);
+    private static final List<Color> COLORS = List.of(Color.BLACK, Color.WHITE);
+    private static final long[][] STEP_ATTACKS =
+            new long[PieceType.values().length * COLOR_COUNT][Bitboards.SQUARE_COUNT];
+
+    static {
+        for (PieceType type : STEPPING_TYPES) {
+            for (Color color : COLORS) {
+                initStepAttacks(Piece.of(type, color));
+            }
+        }
+    }
+
+    private final Placement placement;
+    private final long[] attacksFrom;
+    private final long[] kings;
+    private long sliders;
+
+    AttackMap(Placement placement) {
+        this.placement = placement;
+        this.attacksFrom = new long[Bitboards.SQUARE_COUNT];
+        this.kings = new long[COLOR_COUNT];
+        for (long bits = placement.occupancy(); bits != 0; bits &= bits - 1) {
+            Square square = Square.of(Long.numberOfTrailingZeros(bits));
+            attacksFrom[square.getIndex()] = attacksOf(square);
+            toggle(placement.get(square), square);
+        }
+    }
+
+    private static void initStepAttacks(Piece piece) {
+        for (int index = 0; index < Bitboards.SQUARE_COUNT; index++) {
+            STEP_ATTACKS[indexOf(piece)][index] = computeStepAttacks(piece, Square.of(index));
+        }
+    }
+
+    private static long computeStepAttacks(Piece piece, Square square) {
+        long attacks = 0L;
+        for (UnitDirection direction : piece.getAttackDirections()) {
+            Movement movement = piece.orient(direction);
+            if (square.canAdd(movement)) {
+                attacks |= Bitboards.bit(square.add(movement));
+            }
+        }
+        return attacks;
+    }
+
+    private static int indexOf(Piece piece) {
+        return piece.getType().ordinal() * COLOR_COUNT + piece.getColor().ordinal();
+    }
+
+    void replace(Square square, Piece removed, Piece placed) {
+        toggle(removed, square);
+        toggle(placed, square);
+    }
+
+    private void toggle(Piece piece, Square square) {
+        if (piece == null) {
+            return;
+        }
+        if (piece.isKing()) {
+            kings[piece.getColor().ordinal()] ^= Bitboards.bit(square);
+        }
+        if (piece.isSliding()) {
+            sliders ^= Bitboards.bit(square);
+        }
+    }
+
+    void refresh(Square source, Square target) {
+        long changed = Bitboards.bit(source) | Bitboards.bit(target);
+        for (long bits = sliders; bits != 0; bits &= bits - 1) {
+            int index = Long.numberOfTrailingZeros(bits);
+            if ((attacksFrom[index] & changed) != 0) {
+                attacksFrom[index] = attacksOf(Square.of(index));
+            }
+        }
+        attacksFrom[source.getIndex()] = attacksOf(source);
+        attacksFrom[target.getIndex()] = attacksOf(target);
+    }
+
+    private long attacksOf(Square square) {
+        Piece piece = placement.get(square);
+        if (piece.isNone()) {
+            return 0L;
+        }
+        if (piece.isSliding()) {
+            return SlidingAttacks.of(piece.getType(), square, placement.occupancy());
+        }
+        return STEP_ATTACKS[indexOf(piece)][square.getIndex()];
+    }
+
+    long attacks(Color color) {
+        long attacks = 0L;
+        for (long bits = placement.occupancy(color); bits != 0; bits &= bits - 1) {
+            attacks |= attacksFrom[Long.numberOfTrailingZeros(bits)];
+        }
+        return attacks;
+    }
+
+    boolean hasKing(Color color) {
+        return kings[color.ordinal()] != 0;
+    }
+
+    boolean isInCheck(Color color) {
+        return (kings[color.ordinal()] & attacks(color.switchColor())) != 0;
+    }
+}
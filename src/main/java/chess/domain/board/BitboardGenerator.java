@@ -0,0 +1,24 @@
+package chess.domain.board;
+
+import java.util.Map;
+
+import chess.domain.piece.Piece;
+import chess.domain.position.Square;
+
+public final class BitboardGenerator implements BoardGenerator {
+    private final BoardGenerator boardGenerator;
+
+    public BitboardGenerator(BoardGenerator boardGenerator) {
+        this.boardGenerator = boardGenerator;
+    }
+
+    @Override
+    public Map<Square, Piece> generate() {
+        return boardGenerator.generate();
+    }
+
+    @Override
+    public Placement place() {
+        return new BitboardPlacement(generate());
+    }
+}
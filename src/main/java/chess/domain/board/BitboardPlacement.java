@@ -0,0 +1,68 @@
+package chess.domain.board;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import chess.domain.piece.Color;
+import chess.domain.piece.Piece;
+import chess.domain.position.Square;
+
+/**
+ * 칸마다 말을 두는 배열과 색깔별 점유 비트보드로 이루어진다.
+ */
+final class BitboardPlacement implements Placement {
+    private final Occupancy occupancy;
+    private final Piece[] mailbox;
+
+    BitboardPlacement(Map<Square, Piece> board) {
+        this.occupancy = new Occupancy();
+        this.mailbox = new Piece[Bitboards.SQUARE_COUNT];
+        Arrays.fill(mailbox, Piece.none());
+        board.forEach(this::put);
+    }
+
+    @Override
+    public Piece get(Square square) {
+        return mailbox[square.getIndex()];
+    }
+
+    @Override
+    public void put(Square square, Piece piece) {
+        int index = square.getIndex();
+        toggle(mailbox[index], index);
+        mailbox[index] = piece;
+        toggle(piece, index);
+    }
+
+    private void toggle(Piece piece, int index) {
+        if (piece.isNone()) {
+            return;
+        }
+        occupancy.toggle(piece, 1L << index);
+    }
+
+    @Override
+    public long occupancy() {
+        return occupancy.all();
+    }
+
+    @Override
+    public long occupancy(Color color) {
+        return occupancy.of(color);
+    }
+
+    @Override
+    public Map<Square, Piece> toMap() {
+        Map<Square, Piece> board = new LinkedHashMap<>();
+        for (int index = 0; index < Bitboards.SQUARE_COUNT; index++) {
+            board.put(Square.of(index), mailbox[index]);
+        }
+        return board;
+    }
+
+    @Override
+    public Placement copy() {
+        return new BitboardPlacement(toMap());
+    }
+}
@@ -0,0 +1,56 @@
+package chess.domain.board;
+
+import chess.domain.position.Movement;
+import chess.domain.position.Square;
+
+final class Bitboards {
+    static final int SQUARE_COUNT = 64;
+    static final long FILE_A = 0x0101010101010101L;
+    static final long FILE_H = FILE_A << 7;
+    static final long RANK_1 = 0xFFL;
+    static final long RANK_8 = RANK_1 << 56;
+
+    private static final int FILE_MASK = 7;
+
+    private static final long[][] BETWEEN = new long[SQUARE_COUNT][SQUARE_COUNT];
+
+    static {
+        for (int source = 0; source < SQUARE_COUNT; source++) {
+            for (int target = 0; target < SQUARE_COUNT; target++) {
+                BETWEEN[source][target] = computeBetween(Square.of(source), Square.of(target));
+            }
+        }
+    }
+
+    private Bitboards() {
+    }
+
+    private static long computeBetween(Square source, Square target) {
+        Movement movement = source.getGap(target);
+        if (source == target || !movement.isStraight()) {
+            return 0L;
+        }
+        Movement unitMovement = movement.getUnitMovement();
+        long between = 0L;
+        for (Square road = source.add(unitMovement); road != target; road = road.add(unitMovement)) {
+            between |= bit(road);
+        }
+        return between;
+    }
+
+    static long bit(Square square) {
+        return 1L << square.getIndex();
+    }
+
+    static long fileOf(int index) {
+        return FILE_A << (index & FILE_MASK);
+    }
+
+    static long rankOf(int index) {
+        return RANK_1 << (index & ~FILE_MASK);
+    }
+
+    static long between(Square source, Square target) {
+        return BETWEEN[source.getIndex()][target.getIndex()];
+    }
+}
@@ -1,84 +1,252 @@
 package chess.domain.board;
 
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
+import chess.domain.move.MoveList;
+import chess.domain.move.MoveResult;
+import chess.domain.move.PackedMove;
 import chess.domain.piece.Color;
-import chess.domain.piece.None;
 import chess.domain.piece.Piece;
 import chess.domain.position.Movement;
 import chess.domain.position.Square;
 
 public final class Board {
-    private static final String ERROR_MESSAGE_POSITION_INCAPABLE = "허걱... 거긴 못가... 미안..";
-    private static final String ERROR_MESSAGE_DIRECTION_INCAPABLE = "길이 막혔다...!";
-
-    private final Map<Square, Piece> board;
+    private static final String ERROR_MESSAGE_NO_HISTORY = "[ERROR] 무를 수가 없어! 아직 아무것도 안 움직였거든~";
+
+    private final Placement placement;
+    private final UndoStack undoStack;
+    private final MoveGenerator moveGenerator;
+    private final Material material;
+    private final PieceList pieceList;
+    private final AttackMap attackMap;
+    private long zobristKey;
+    private long pawnKey;
+    private PlacementListener[] listeners;
 
     public Board(BoardGenerator boardGenerator) {
-        this(boardGenerator.generate());
+        this(boardGenerator, Color.WHITE);
+    }
+
+    public Board(BoardGenerator boardGenerator, Color turn) {
+        this(boardGenerator.place(), turn);
+    }
+
+    private Board(Placement placement, Color turn) {
+        this.placement = placement;
+        this.undoStack = new UndoStack();
+        this.material = new Material();
+        this.pieceList = new PieceList();
+        this.moveGenerator = new MoveGenerator(placement, pieceList);
+        this.zobristKey = Zobrist.of(turn);
+        placement.toMap().forEach(this::addToIncrementalState);
+        this.attackMap = new AttackMap(placement);
+        this.listeners = new PlacementListener[0];
+    }
+
+    public void addListener(PlacementListener listener) {
+        listeners = Arrays.copyOf(listeners, listeners.length + 1);
+        listeners[listeners.length - 1] = listener;
     }
 
-    private Board(Map<Square, Piece> board) {
-        this.board = new LinkedHashMap<>(board);
+    private void addToIncrementalState(Square square, Piece piece) {
+        material.add(piece, square);
+        pieceList.add(piece, square);
+        zobristKey ^= Zobrist.of(piece, square);
+        pawnKey ^= Zobrist.ofPawn(piece, square);
     }
 
     public boolean isRightTurn(Square source, Color turn) {
-        return board.get(source).isSameColor(turn);
+        return placement.get(source).isSameColor(turn);
+    }
+
+    public void checkCanMove(int move) {
+        validate(move).check();
     }
 
     public void checkCanMove(Square source, Square target) {
-        Piece sourcePiece = board.get(source);
-        Piece targetPiece = board.get(target);
-        Movement movement = source.getGap(target);
+        validate(source, target).check();
+    }
 
-        checkCapablePosition(movement, sourcePiece, targetPiece);
-        checkCapableRoute(source, target, movement);
-        sourcePiece.checkSameTeam(targetPiece);
+    public MoveResult validate(int move) {
+        return validate(PackedMove.source(move), PackedMove.target(move));
     }
 
-    private void checkCapablePosition(Movement movement, Piece sourcePiece, Piece targetPiece) {
-        if (!sourcePiece.canMove(movement, targetPiece)) {
-            throw new IllegalArgumentException(ERROR_MESSAGE_POSITION_INCAPABLE);
+    public MoveResult validate(Square source, Square target) {
+        Piece sourcePiece = placement.get(source);
+        Piece targetPiece = placement.get(target);
+        Movement movement = source.getGap(target);
+
+        MoveResult result = sourcePiece.validate(source, movement, targetPiece);
+        if (!result.isLegal()) {
+            return result;
+        }
+        if (!placement.isEmptyBetween(source, target)) {
+            return MoveResult.ROUTE_BLOCKED;
         }
+        if (sourcePiece.isSameTeam(targetPiece)) {
+            return MoveResult.SAME_TEAM;
+        }
+        return MoveResult.LEGAL;
+    }
+
+    public boolean isIrreversible(int move) {
+        return placement.get(PackedMove.source(move)).isPawn() || !placement.get(PackedMove.target(move)).isNone();
+    }
+
+    public boolean isTargetKing(Square target) {
+        return placement.get(target).isKing();
+    }
+
+    public void make(Square source, Square target) {
+        make(PackedMove.of(source, target));
     }
 
-    private void checkCapableRoute(Square source, Square target, Movement movement) {
-        Movement unitMovement = movement.getUnitMovement();
-        Square road = source.add(unitMovement);
+    public void make(int move) {
+        Square source = PackedMove.source(move);
+        Square target = PackedMove.target(move);
+        Piece sourcePiece = placement.get(source);
+        Piece targetPiece = placement.get(target);
+        undoStack.push(move, targetPiece, zobristKey);
+        zobristKey ^= Zobrist.of(sourcePiece, source) ^ Zobrist.of(targetPiece, target) ^ Zobrist.sideToMove()
+                ^ Zobrist.of(sourcePiece, target);
+        put(target, sourcePiece);
+        put(source, Piece.none());
+        attackMap.refresh(source, target);
+    }
 
-        while (!road.equals(target)) {
-            checkNone(board.get(road));
-            road = road.add(unitMovement);
+    private void put(Square square, Piece piece) {
+        Piece removed = placement.get(square);
+        material.remove(removed, square);
+        pieceList.remove(removed, square);
+        attackMap.replace(square, removed, piece);
+        placement.put(square, piece);
+        material.add(piece, square);
+        pieceList.add(piece, square);
+        pawnKey ^= Zobrist.ofPawn(removed, square) ^ Zobrist.ofPawn(piece, square);
+        for (PlacementListener listener : listeners) {
+            listener.removed(removed, square);
+            listener.placed(piece, square);
         }
     }
 
-    private void checkNone(Piece roadPiece) {
-        if (!roadPiece.isNone()) {
-            throw new IllegalArgumentException(ERROR_MESSAGE_DIRECTION_INCAPABLE);
+    public Color unmake() {
+        if (undoStack.isEmpty()) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_NO_HISTORY);
         }
+        int move = undoStack.move();
+        Square source = PackedMove.source(move);
+        Square target = PackedMove.target(move);
+        Piece sourcePiece = placement.get(target);
+        put(source, sourcePiece);
+        put(target, undoStack.captured());
+        attackMap.refresh(source, target);
+        zobristKey = undoStack.zobristKey();
+        undoStack.pop();
+        return sourcePiece.getColor();
     }
 
-    public boolean isTargetKing(Square target) {
-        return board.get(target).isKing();
+    public boolean isInCheck(Color color) {
+        return attackMap.isInCheck(color);
+    }
+
+    public boolean isCheckmate(Color color) {
+        return isInCheck(color) && !hasLegalMove(color);
+    }
+
+    public boolean isStalemate(Color color) {
+        return attackMap.hasKing(color) && !isInCheck(color) && !hasLegalMove(color);
     }
 
-    public Board move(Square source, Square target) {
-        Piece sourcePiece = board.get(source);
-        board.put(target, sourcePiece);
-        board.put(source, new None(Color.NONE));
-        return new Board(board);
+    private boolean hasLegalMove(Color color) {
+        MoveList moves = generateMoves(color);
+        for (int index = 0; index < moves.size(); index++) {
+            make(moves.get(index));
+            boolean legal = !isInCheck(color);
+            unmake();
+            if (legal) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public long getAttacks(Color color) {
+        return attackMap.attacks(color);
+    }
+
+    public MoveList generateMoves(Color color) {
+        MoveList moves = new MoveList();
+        generateMoves(color, moves);
+        return moves;
+    }
+
+    public void generateMoves(Color color, MoveList moves) {
+        moveGenerator.generate(color, moves);
+    }
+
+    public MoveList generateMoves(Square source) {
+        MoveList moves = new MoveList();
+        generateMoves(source, moves);
+        return moves;
+    }
+
+    public void generateMoves(Square source, MoveList moves) {
+        moveGenerator.generate(source, moves);
+    }
+
+    public Board copy() {
+        Board copied = new Board(placement.copy(), Color.WHITE);
+        copied.zobristKey = zobristKey;
+        return copied;
+    }
+
+    public long getZobristKey() {
+        return zobristKey;
+    }
+
+    public double getMaterialScore(Color color) {
+        return material.score(color);
+    }
+
+    public long getPawnKey() {
+        return pawnKey;
+    }
+
+    public long getPawns(Color color) {
+        long pawns = 0L;
+        for (int position = 0; position < pieceList.size(color); position++) {
+            Square square = pieceList.get(color, position);
+            if (placement.get(square).isPawn()) {
+                pawns |= Bitboards.bit(square);
+            }
+        }
+        return pawns;
     }
 
     public List<Map.Entry<Square, Piece>> filterBy(Color color) {
-        return board.entrySet().stream()
-                .filter(entry -> entry.getValue().isSameColor(color))
-                .collect(Collectors.toList());
+        List<Map.Entry<Square, Piece>> pieces = new ArrayList<>(pieceList.size(color));
+        for (Square square : getSquares(color)) {
+            pieces.add(Map.entry(square, placement.get(square)));
+        }
+        return pieces;
+    }
+
+    public List<Square> getSquares(Color color) {
+        List<Square> squares = new ArrayList<>(pieceList.size(color));
+        for (int position = 0; position < pieceList.size(color); position++) {
+            squares.add(pieceList.get(color, position));
+        }
+        return squares;
+    }
+
+    public Piece getPiece(Square square) {
+        return placement.get(square);
     }
 
     public Map<Square, Piece> getBoard() {
-        return new LinkedHashMap<>(board);
+        return placement.toMap();
     }
 }
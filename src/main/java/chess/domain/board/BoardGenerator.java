@@ -9,4 +9,8 @@ import chess.domain.position.Square;
 public interface BoardGenerator {
 
     Map<Square, Piece> generate();
+
+    default Placement place() {
+        return new MapPlacement(generate());
+    }
 }
@@ -0,0 +1,118 @@
+package chess.domain.board;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import chess.domain.piece.Color;
+import chess.domain.piece.Piece;
+import chess.domain.piece.PieceType;
+import chess.domain.position.Square;
+
+public final class FenBoardGenerator implements BoardGenerator {
+    private static final String ERROR_MESSAGE_FEN = "[ERROR] FEN 을 읽을 수 없어! 배치와 차례를 확인해줘~";
+    private static final Map<Character, PieceType> PIECE_TYPES = Map.of(
+            'k', PieceType.KING,
+            'q', PieceType.QUEEN,
+            'r', PieceType.ROOK,
+            'b', PieceType.BISHOP,
+            'n', PieceType.KNIGHT,
+            'p', PieceType.PAWN);
+    private static final String WHITE_TURN = "w";
+    private static final String BLACK_TURN = "b";
+    private static final char RANK_SEPARATOR = '/';
+    private static final int FILE_COUNT = 8;
+
+    private final String placement;
+    private final Color turn;
+
+    public FenBoardGenerator(String fen) {
+        String[] fields = fen.trim().split("\\s+");
+        this.placement = fields[0];
+        this.turn = parseTurn(fields);
+    }
+
+    private static Color parseTurn(String[] fields) {
+        if (fields.length == 1 || fields[1].equals(WHITE_TURN)) {
+            return Color.WHITE;
+        }
+        if (fields[1].equals(BLACK_TURN)) {
+            return Color.BLACK;
+        }
+        throw new IllegalArgumentException(ERROR_MESSAGE_FEN);
+    }
+
+    @Override
+    public Map<Square, Piece> generate() {
+        Piece[] pieces = parse();
+        Map<Square, Piece> board = new LinkedHashMap<>();
+        for (int index = 0; index < Bitboards.SQUARE_COUNT; index++) {
+            board.put(Square.of(index), pieces[index]);
+        }
+        return board;
+    }
+
+    public Color getTurn() {
+        return turn;
+    }
+
+    private Piece[] parse() {
+        Piece[] pieces = new Piece[Bitboards.SQUARE_COUNT];
+        int rank = FILE_COUNT - 1;
+        int file = 0;
+        for (char symbol : placement.toCharArray()) {
+            if (symbol == RANK_SEPARATOR) {
+                checkFilled(file);
+                rank--;
+                file = 0;
+                continue;
+            }
+            file = place(pieces, symbol, rank, file);
+        }
+        checkFilled(file);
+        if (rank != 0) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_FEN);
+        }
+        return pieces;
+    }
+
+    private static int place(Piece[] pieces, char symbol, int rank, int file) {
+        if (Character.isDigit(symbol)) {
+            int empty = symbol - '0';
+            checkInside(rank, file + empty);
+            for (int count = 0; count < empty; count++) {
+                pieces[rank * FILE_COUNT + file + count] = Piece.none();
+            }
+            return file + empty;
+        }
+        checkInside(rank, file + 1);
+        pieces[rank * FILE_COUNT + file] = createPiece(symbol);
+        return file + 1;
+    }
+
+    private static Piece createPiece(char symbol) {
+        PieceType type = PIECE_TYPES.get(Character.toLowerCase(symbol));
+        if (type == null) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_FEN);
+        }
+        return Piece.of(type, colorOf(symbol));
+    }
+
+    private static Color colorOf(char symbol) {
+        if (Character.isUpperCase(symbol)) {
+            return Color.WHITE;
+        }
+        return Color.BLACK;
+    }
+
+    private static void checkInside(int rank, int file) {
+        if (rank < 0 || file > FILE_COUNT) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_FEN);
+        }
+    }
+
+    private static void checkFilled(int file) {
+        if (file != FILE_COUNT) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_FEN);
+        }
+    }
+}
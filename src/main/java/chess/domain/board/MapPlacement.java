@@ -0,0 +1,51 @@
+package chess.domain.board;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import chess.domain.piece.Color;
+import chess.domain.piece.Piece;
+import chess.domain.position.Square;
+
+final class MapPlacement implements Placement {
+    private final Map<Square, Piece> board;
+    private final Occupancy occupancy;
+
+    MapPlacement(Map<Square, Piece> board) {
+        this.board = new LinkedHashMap<>();
+        this.occupancy = new Occupancy();
+        board.forEach(this::put);
+    }
+
+    @Override
+    public Piece get(Square square) {
+        return board.getOrDefault(square, Piece.none());
+    }
+
+    @Override
+    public void put(Square square, Piece piece) {
+        long bit = Bitboards.bit(square);
+        occupancy.toggle(board.put(square, piece), bit);
+        occupancy.toggle(piece, bit);
+    }
+
+    @Override
+    public long occupancy() {
+        return occupancy.all();
+    }
+
+    @Override
+    public long occupancy(Color color) {
+        return occupancy.of(color);
+    }
+
+    @Override
+    public Map<Square, Piece> toMap() {
+        return new LinkedHashMap<>(board);
+    }
+
+    @Override
+    public Placement copy() {
+        return new MapPlacement(board);
+    }
+}
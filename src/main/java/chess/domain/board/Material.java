@@ -0,0 +1,34 @@
+package chess.domain.board;
+
+import chess.domain.piece.Color;
+import chess.domain.piece.Piece;
+import chess.domain.position.Square;
+
+final class Material {
+    private static final int COLOR_COUNT = 2;
+
+    private final double[] scores;
+
+    Material() {
+        this.scores = new double[COLOR_COUNT];
+    }
+
+    void add(Piece piece, Square square) {
+        update(piece, square, 1);
+    }
+
+    void remove(Piece piece, Square square) {
+        update(piece, square, -1);
+    }
+
+    private void update(Piece piece, Square square, int sign) {
+        if (piece == null || piece.isNone()) {
+            return;
+        }
+        scores[piece.getColor().ordinal()] += sign * piece.getScore();
+    }
+
+    double score(Color color) {
+        return scores[color.ordinal()];
+    }
+}
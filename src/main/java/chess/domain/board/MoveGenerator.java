@@ -0,0 +1,103 @@
+package chess.domain.board;
+
+import java.util.List;
+
+import chess.domain.move.MoveList;
+import chess.domain.move.PackedMove;
+import chess.domain.piece.Color;
+import chess.domain.piece.Piece;
+import chess.domain.position.Movement;
+import chess.domain.position.Square;
+import chess.domain.position.UnitDirection;
+
+final class MoveGenerator {
+    private final Placement placement;
+    private final PieceList pieceList;
+
+    MoveGenerator(Placement placement, PieceList pieceList) {
+        this.placement = placement;
+        this.pieceList = pieceList;
+    }
+
+    void generate(Color color, MoveList moves) {
+        for (int position = 0; position < pieceList.size(color); position++) {
+            Square source = pieceList.get(color, position);
+            generate(source, placement.get(source), moves);
+        }
+    }
+
+    void generate(Square source, MoveList moves) {
+        generate(source, placement.get(source), moves);
+    }
+
+    private void generate(Square source, Piece piece, MoveList moves) {
+        if (piece.isPawn()) {
+            addPawnMoves(source, piece, moves);
+            return;
+        }
+        if (piece.isSliding()) {
+            addSlidingMoves(source, piece, moves);
+            return;
+        }
+        for (UnitDirection direction : piece.getMovableDirections()) {
+            addStep(source, piece, direction.getDirection(), moves);
+        }
+    }
+
+    private void addSlidingMoves(Square source, Piece piece, MoveList moves) {
+        long occupancy = placement.occupancy();
+        long targets = SlidingAttacks.of(piece.getType(), source, occupancy) & ~placement.occupancy(piece.getColor());
+        for (; targets != 0; targets &= targets - 1) {
+            long bit = targets & -targets;
+            Square target = Square.of(Long.numberOfTrailingZeros(bit));
+            moves.add(PackedMove.of(source, target, (occupancy & bit) == 0 ? PackedMove.NONE : PackedMove.CAPTURE));
+        }
+    }
+
+    private void addStep(Square source, Piece piece, Movement movement, MoveList moves) {
+        if (!source.canAdd(movement)) {
+            return;
+        }
+        Square target = source.add(movement);
+        Piece targetPiece = placement.get(target);
+        if (targetPiece.isNone()) {
+            moves.add(PackedMove.of(source, target));
+            return;
+        }
+        addCapture(source, target, piece, targetPiece, moves);
+    }
+
+    private void addPawnMoves(Square source, Piece pawn, MoveList moves) {
+        addPawnSteps(source, pawn, pawn.getMovableDirections(), PackedMove.NONE, moves);
+        if (pawn.isStart(source)) {
+            addPawnSteps(source, pawn, pawn.getStartDirections(), PackedMove.DOUBLE_STEP, moves);
+        }
+        for (UnitDirection direction : pawn.getAttackDirections()) {
+            Movement movement = pawn.orient(direction);
+            if (source.canAdd(movement)) {
+                Square target = source.add(movement);
+                addCapture(source, target, pawn, placement.get(target), moves);
+            }
+        }
+    }
+
+    private void addPawnSteps(Square source, Piece pawn, List<UnitDirection> directions, int flags,
+            MoveList moves) {
+        for (UnitDirection direction : directions) {
+            Movement movement = pawn.orient(direction);
+            if (!source.canAdd(movement)) {
+                continue;
+            }
+            Square target = source.add(movement);
+            if (placement.get(target).isNone() && placement.isEmptyBetween(source, target)) {
+                moves.add(PackedMove.of(source, target, flags));
+            }
+        }
+    }
+
+    private void addCapture(Square source, Square target, Piece piece, Piece targetPiece, MoveList moves) {
+        if (!targetPiece.isNone() && !piece.isSameColor(targetPiece.getColor())) {
+            moves.add(PackedMove.of(source, target, PackedMove.CAPTURE));
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package chess.domain.board;
+
+import chess.domain.piece.Color;
+import chess.domain.piece.Piece;
+
+final class Occupancy {
+    private static final int COLOR_COUNT = 2;
+
+    private final long[] colorOccupancy;
+    private long occupancy;
+
+    Occupancy() {
+        this.colorOccupancy = new long[COLOR_COUNT];
+    }
+
+    void toggle(Piece piece, long bit) {
+        if (piece == null || piece.isNone()) {
+            return;
+        }
+        colorOccupancy[piece.getColor().ordinal()] ^= bit;
+        occupancy ^= bit;
+    }
+
+    long all() {
+        return occupancy;
+    }
+
+    long of(Color color) {
+        if (color == Color.NONE) {
+            return ~occupancy;
+        }
+        return colorOccupancy[color.ordinal()];
+    }
+}
@@ -0,0 +1,73 @@
+package chess.domain.board;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+import chess.domain.piece.Color;
+
+/**
+ * 폰만으로 만든 키로 폰 구조를 담아 두는 고정 크기 표.
+ * 폰 구조는 폰이 움직이거나 잡힐 때만 바뀌므로, 탐색이나 점수 출력에서 같은 구조를 다시 셀 일이 거의 없다.
+ * 칸마다 바꿀 수 없는 PawnStructure 를 통째로 바꿔 끼우므로 여러 스레드가 잠그지 않고 함께 써도 된다.
+ */
+public final class PawnHashTable {
+    public static final int DEFAULT_ENTRIES = 1 << 14;
+
+    private static final String ERROR_MESSAGE_SIZE = "[ERROR] 폰 해시 표의 크기는 2의 거듭제곱이어야 해~";
+
+    private final PawnStructure[] entries;
+    private final int mask;
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    public PawnHashTable() {
+        this(DEFAULT_ENTRIES);
+    }
+
+    public PawnHashTable(int entries) {
+        if (entries < 1 || Integer.bitCount(entries) != 1) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_SIZE);
+        }
+        this.entries = new PawnStructure[entries];
+        this.mask = entries - 1;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    public PawnStructure probe(Board board) {
+        long key = board.getPawnKey();
+        int index = (int) key & mask;
+        PawnStructure entry = entries[index];
+        if (entry != null && entry.getKey() == key) {
+            hits.increment();
+            return entry;
+        }
+        misses.increment();
+        PawnStructure computed = PawnStructure.of(key, board.getPawns(Color.BLACK), board.getPawns(Color.WHITE));
+        entries[index] = computed;
+        return computed;
+    }
+
+    public void clear() {
+        Arrays.fill(entries, null);
+        hits.reset();
+        misses.reset();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long probes = hitCount + misses.sum();
+        if (probes == 0) {
+            return 0;
+        }
+        return (double) hitCount / probes;
+    }
+}
@@ -0,0 +1,124 @@
+package chess.domain.board;
+
+import chess.domain.piece.Color;
+
+/**
+ * 한 폰 배치에서 색깔마다 겹친 폰, 고립된 폰, 통과한 폰의 개수.
+ * 겹친 폰은 같은 세로줄에 둘 이상 있는 폰을 모두 센다.
+ * 개수는 생성자 안에서 모두 채우므로, final 필드를 통해 다른 스레드에도 다 채워진 채로 보인다.
+ */
+public final class PawnStructure {
+    private static final int COLOR_COUNT = 2;
+    private static final int FILE_COUNT = 8;
+    private static final long[] ADJACENT_FILES = new long[FILE_COUNT];
+    private static final long[][] PASSED_MASKS = new long[COLOR_COUNT][Bitboards.SQUARE_COUNT];
+
+    static {
+        for (int file = 0; file < FILE_COUNT; file++) {
+            ADJACENT_FILES[file] = adjacentFiles(file);
+        }
+        for (int index = 0; index < Bitboards.SQUARE_COUNT; index++) {
+            long files = Bitboards.fileOf(index) | ADJACENT_FILES[index % FILE_COUNT];
+            PASSED_MASKS[Color.WHITE.ordinal()][index] = files & ranksAbove(index);
+            PASSED_MASKS[Color.BLACK.ordinal()][index] = files & ranksBelow(index);
+        }
+    }
+
+    private final long key;
+    private final int[] doubled;
+    private final int[] isolated;
+    private final int[] passed;
+
+    private PawnStructure(long key, long blackPawns, long whitePawns) {
+        int black = Color.BLACK.ordinal();
+        int white = Color.WHITE.ordinal();
+        this.key = key;
+        this.doubled = new int[COLOR_COUNT];
+        this.isolated = new int[COLOR_COUNT];
+        this.passed = new int[COLOR_COUNT];
+        doubled[black] = countDoubled(blackPawns);
+        doubled[white] = countDoubled(whitePawns);
+        isolated[black] = countIsolated(blackPawns);
+        isolated[white] = countIsolated(whitePawns);
+        passed[black] = countPassed(black, blackPawns, whitePawns);
+        passed[white] = countPassed(white, whitePawns, blackPawns);
+    }
+
+    static PawnStructure of(long key, long blackPawns, long whitePawns) {
+        return new PawnStructure(key, blackPawns, whitePawns);
+    }
+
+    private static long adjacentFiles(int file) {
+        long files = 0L;
+        if (file > 0) {
+            files |= Bitboards.FILE_A << (file - 1);
+        }
+        if (file < FILE_COUNT - 1) {
+            files |= Bitboards.FILE_A << (file + 1);
+        }
+        return files;
+    }
+
+    private static long ranksAbove(int index) {
+        long ranks = 0L;
+        for (long rank = Bitboards.rankOf(index) << FILE_COUNT; rank != 0; rank <<= FILE_COUNT) {
+            ranks |= rank;
+        }
+        return ranks;
+    }
+
+    private static long ranksBelow(int index) {
+        long ranks = 0L;
+        for (long rank = Bitboards.rankOf(index) >>> FILE_COUNT; rank != 0; rank >>>= FILE_COUNT) {
+            ranks |= rank;
+        }
+        return ranks;
+    }
+
+    private static int countDoubled(long pawns) {
+        int doubled = 0;
+        for (int file = 0; file < FILE_COUNT; file++) {
+            int count = Long.bitCount(pawns & (Bitboards.FILE_A << file));
+            if (count > 1) {
+                doubled += count;
+            }
+        }
+        return doubled;
+    }
+
+    private static int countIsolated(long pawns) {
+        int isolated = 0;
+        for (int file = 0; file < FILE_COUNT; file++) {
+            if ((pawns & ADJACENT_FILES[file]) == 0) {
+                isolated += Long.bitCount(pawns & (Bitboards.FILE_A << file));
+            }
+        }
+        return isolated;
+    }
+
+    private static int countPassed(int color, long pawns, long enemyPawns) {
+        int passed = 0;
+        for (long bits = pawns; bits != 0; bits &= bits - 1) {
+            if ((enemyPawns & PASSED_MASKS[color][Long.numberOfTrailingZeros(bits)]) == 0) {
+                passed++;
+            }
+        }
+        return passed;
+    }
+
+    long getKey() {
+        return key;
+    }
+
+    public int getDoubledPawns(Color color) {
+        return doubled[color.ordinal()];
+    }
+
+    public int getIsolatedPawns(Color color) {
+        return isolated[color.ordinal()];
+    }
+
+    public int getPassedPawns(Color color) {
+        return passed[color.ordinal()];
+    }
+}
@@ -0,0 +1,57 @@
+package chess.domain.board;
+
+import java.util.Arrays;
+
+import chess.domain.piece.Color;
+import chess.domain.piece.Piece;
+import chess.domain.position.Square;
+
+/**
+ * 색깔별로 말이 있는 칸을 모아 둔다.
+ * 칸마다 목록 안의 자리를 기억해 두고, 빠진 자리는 마지막 칸으로 메우므로 넣고 빼기가 모두 O(1) 이다.
+ */
+final class PieceList {
+    private static final int COLOR_COUNT = 2;
+    private static final int EMPTY = -1;
+
+    private final int[][] squares;
+    private final int[] sizes;
+    private final int[] slots;
+
+    PieceList() {
+        this.squares = new int[COLOR_COUNT][Bitboards.SQUARE_COUNT];
+        this.sizes = new int[COLOR_COUNT];
+        this.slots = new int[Bitboards.SQUARE_COUNT];
+        Arrays.fill(slots, EMPTY);
+    }
+
+    void add(Piece piece, Square square) {
+        if (piece == null || piece.isNone()) {
+            return;
+        }
+        int color = piece.getColor().ordinal();
+        int index = square.getIndex();
+        slots[index] = sizes[color];
+        squares[color][sizes[color]++] = index;
+    }
+
+    void remove(Piece piece, Square square) {
+        if (piece == null || piece.isNone()) {
+            return;
+        }
+        int color = piece.getColor().ordinal();
+        int index = square.getIndex();
+        int last = squares[color][--sizes[color]];
+        squares[color][slots[index]] = last;
+        slots[last] = slots[index];
+        slots[index] = EMPTY;
+    }
+
+    int size(Color color) {
+        return sizes[color.ordinal()];
+    }
+
+    Square get(Color color, int position) {
+        return Square.of(squares[color.ordinal()][position]);
+    }
+}
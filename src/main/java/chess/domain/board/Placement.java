@@ -0,0 +1,26 @@
+package chess.domain.board;
+
+import java.util.Map;
+
+import chess.domain.piece.Color;
+import chess.domain.piece.Piece;
+import chess.domain.position.Square;
+
+public interface Placement {
+
+    Piece get(Square square);
+
+    void put(Square square, Piece piece);
+
+    long occupancy();
+
+    long occupancy(Color color);
+
+    default boolean isEmptyBetween(Square source, Square target) {
+        return (Bitboards.between(source, target) & occupancy()) == 0;
+    }
+
+    Map<Square, Piece> toMap();
+
+    Placement copy();
+}
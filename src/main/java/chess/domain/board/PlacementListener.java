@@ -0,0 +1,11 @@
+package chess.domain.board;
+
+import chess.domain.piece.Piece;
+import chess.domain.position.Square;
+
+public interface PlacementListener {
+
+    void placed(Piece piece, Square square);
+
+    void removed(Piece piece, Square square);
+}
@@ -0,0 +1,150 @@
+package chess.domain.board;
+
+import static chess.domain.position.UnitDirection.*;
+
+import java.util.List;
+
+import chess.domain.piece.PieceType;
+import chess.domain.position.Movement;
+import chess.domain.position.Square;
+import chess.domain.position.UnitDirection;
+
+/**
+ * 룩과 비숍의 공격 범위를 magic bitboard 로 미리 계산해 둔다.
+ * 막는 말의 배치(occupancy)에 magic 수를 곱한 상위 비트가 곧 표의 인덱스가 되므로, 거리와 상관없이 한 번의 조회로 끝난다.
+ */
+enum SlidingAttacks {
+    ROOK(List.of(N, S, W, E)),
+    BISHOP(List.of(EN, ES, WS, WN));
+
+    private static final int MINIMUM_HIGH_BITS = 6;
+
+    private final long[] masks;
+    private final long[] magics;
+    private final int[] shifts;
+    private final long[][] attacks;
+
+    SlidingAttacks(List<UnitDirection> directions) {
+        this.masks = new long[Bitboards.SQUARE_COUNT];
+        this.magics = new long[Bitboards.SQUARE_COUNT];
+        this.shifts = new int[Bitboards.SQUARE_COUNT];
+        this.attacks = new long[Bitboards.SQUARE_COUNT][];
+        for (int index = 0; index < Bitboards.SQUARE_COUNT; index++) {
+            initSquare(directions, Square.of(index));
+        }
+    }
+
+    static long of(PieceType type, Square source, long occupancy) {
+        if (type == PieceType.ROOK) {
+            return ROOK.attacks(source, occupancy);
+        }
+        if (type == PieceType.BISHOP) {
+            return BISHOP.attacks(source, occupancy);
+        }
+        if (type == PieceType.QUEEN) {
+            return ROOK.attacks(source, occupancy) | BISHOP.attacks(source, occupancy);
+        }
+        return 0L;
+    }
+
+    long attacks(Square source, long occupancy) {
+        int index = source.getIndex();
+        return attacks[index][(int) (((occupancy & masks[index]) * magics[index]) >>> shifts[index])];
+    }
+
+    private void initSquare(List<UnitDirection> directions, Square square) {
+        int index = square.getIndex();
+        MagicRandom random = MagicRandom.forRank(index / Byte.SIZE);
+        long mask = slide(directions, square, 0L) & ~edgesExcept(square);
+        int bits = Long.bitCount(mask);
+        int size = 1 << bits;
+        long[] occupancies = new long[size];
+        long[] references = new long[size];
+        long subset = 0L;
+        for (int count = 0; count < size; count++) {
+            occupancies[count] = subset;
+            references[count] = slide(directions, square, subset);
+            subset = (subset - mask) & mask;
+        }
+        masks[index] = mask;
+        shifts[index] = Long.SIZE - bits;
+        attacks[index] = new long[size];
+        magics[index] = findMagic(mask, occupancies, references, attacks[index], shifts[index], random);
+    }
+
+    private static long findMagic(long mask, long[] occupancies, long[] references, long[] table, int shift,
+            MagicRandom random) {
+        int[] epochs = new int[table.length];
+        for (int attempt = 1; ; attempt++) {
+            long magic = random.sparse();
+            if (Long.bitCount((mask * magic) >>> (Long.SIZE - Byte.SIZE)) < MINIMUM_HIGH_BITS) {
+                continue;
+            }
+            if (fill(magic, occupancies, references, table, shift, epochs, attempt)) {
+                return magic;
+            }
+        }
+    }
+
+    private static boolean fill(long magic, long[] occupancies, long[] references, long[] table, int shift,
+            int[] epochs, int attempt) {
+        for (int count = 0; count < occupancies.length; count++) {
+            int index = (int) ((occupancies[count] * magic) >>> shift);
+            if (epochs[index] < attempt) {
+                epochs[index] = attempt;
+                table[index] = references[count];
+            } else if (table[index] != references[count]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long slide(List<UnitDirection> directions, Square source, long occupancy) {
+        long attack = 0L;
+        for (UnitDirection direction : directions) {
+            Movement movement = direction.getDirection();
+            Square road = source;
+            while (road.canAdd(movement)) {
+                road = road.add(movement);
+                attack |= Bitboards.bit(road);
+                if ((occupancy & Bitboards.bit(road)) != 0) {
+                    break;
+                }
+            }
+        }
+        return attack;
+    }
+
+    private static long edgesExcept(Square square) {
+        int index = square.getIndex();
+        long ranks = (Bitboards.RANK_1 | Bitboards.RANK_8) & ~Bitboards.rankOf(index);
+        long files = (Bitboards.FILE_A | Bitboards.FILE_H) & ~Bitboards.fileOf(index);
+        return ranks | files;
+    }
+
+    private static final class MagicRandom {
+        private static final long[] SEEDS = {728, 10316, 55013, 32803, 12281, 15100, 16645, 255};
+
+        private long seed;
+
+        private MagicRandom(long seed) {
+            this.seed = seed;
+        }
+
+        private static MagicRandom forRank(int rank) {
+            return new MagicRandom(SEEDS[rank]);
+        }
+
+        private long sparse() {
+            return next() & next() & next();
+        }
+
+        private long next() {
+            seed ^= seed >>> 12;
+            seed ^= seed << 25;
+            seed ^= seed >>> 27;
+            return seed * 2685821657736338717L;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package chess.domain.board;
+
+import java.util.Arrays;
+
+import chess.domain.move.PackedMove;
+import chess.domain.piece.Piece;
+
+final class UndoStack {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] records;
+    private Piece[] captures;
+    private long[] zobristKeys;
+    private int size;
+
+    UndoStack() {
+        this.records = new int[INITIAL_CAPACITY];
+        this.captures = new Piece[INITIAL_CAPACITY];
+        this.zobristKeys = new long[INITIAL_CAPACITY];
+    }
+
+    void push(int move, Piece captured, long zobristKey) {
+        if (size == records.length) {
+            records = Arrays.copyOf(records, size * 2);
+            captures = Arrays.copyOf(captures, size * 2);
+            zobristKeys = Arrays.copyOf(zobristKeys, size * 2);
+        }
+        records[size] = PackedMove.withoutFlags(move);
+        captures[size] = captured;
+        zobristKeys[size] = zobristKey;
+        size++;
+    }
+
+    void pop() {
+        captures[--size] = null;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int move() {
+        return records[size - 1];
+    }
+
+    Piece captured() {
+        return captures[size - 1];
+    }
+
+    long zobristKey() {
+        return zobristKeys[size - 1];
+    }
+}
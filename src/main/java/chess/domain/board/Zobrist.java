@@ -0,0 +1,65 @@
+package chess.domain.board;
+
+import java.util.SplittableRandom;
+
+import chess.domain.piece.Color;
+import chess.domain.piece.Piece;
+import chess.domain.piece.PieceType;
+import chess.domain.position.Square;
+
+/**
+ * 말, 칸, 차례, 폰의 두 칸 전진 권리마다 고정된 난수를 두고 XOR 해서 위치의 64비트 키를 만든다.
+ * 시드가 고정이라 같은 위치는 JVM 이 달라도 같은 키를 가진다.
+ */
+final class Zobrist {
+    private static final long SEED = 0x5EED_C0DE_2022L;
+    private static final int COLOR_COUNT = 2;
+    private static final long[][] PIECES = new long[(PieceType.values().length - 1) * COLOR_COUNT][Bitboards.SQUARE_COUNT];
+    private static final long[] PAWN_START = new long[Bitboards.SQUARE_COUNT];
+    private static final long BLACK_TO_MOVE;
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (long[] keys : PIECES) {
+            for (int index = 0; index < Bitboards.SQUARE_COUNT; index++) {
+                keys[index] = random.nextLong();
+            }
+        }
+        for (int index = 0; index < Bitboards.SQUARE_COUNT; index++) {
+            PAWN_START[index] = random.nextLong();
+        }
+        BLACK_TO_MOVE = random.nextLong();
+    }
+
+    private Zobrist() {
+    }
+
+    static long of(Piece piece, Square square) {
+        if (piece.isNone()) {
+            return 0L;
+        }
+        long key = PIECES[piece.getType().ordinal() * COLOR_COUNT + piece.getColor().ordinal()][square.getIndex()];
+        if (piece.isStart(square)) {
+            key ^= PAWN_START[square.getIndex()];
+        }
+        return key;
+    }
+
+    static long ofPawn(Piece piece, Square square) {
+        if (piece == null || !piece.isPawn()) {
+            return 0L;
+        }
+        return of(piece, square);
+    }
+
+    static long of(Color turn) {
+        if (turn == Color.BLACK) {
+            return BLACK_TO_MOVE;
+        }
+        return 0L;
+    }
+
+    static long sideToMove() {
+        return BLACK_TO_MOVE;
+    }
+}
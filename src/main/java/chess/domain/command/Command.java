@@ -37,7 +37,7 @@ public abstract class Command {
     }
 
     public void checkKingNotDie(ChessGame chessGame) {
-        if (!chessGame.isKingDie()) {
+        if (!chessGame.isFinished()) {
             throw new IllegalArgumentException(ERROR_MESSAGE_NOT_KING_DIE);
         }
     }
@@ -49,7 +49,7 @@ public abstract class Command {
     }
 
     public void checkKingDie(ChessGame chessGame) {
-        if (chessGame.isKingDie()) {
+        if (chessGame.isFinished()) {
             throw new IllegalArgumentException(ERROR_MESSAGE_KING_DIE);
         }
     }
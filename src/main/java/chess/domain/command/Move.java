@@ -3,7 +3,6 @@ package chess.domain.command;
 import java.util.List;
 
 import chess.domain.ChessGame;
-import chess.domain.position.Square;
 import chess.view.OutputView;
 
 public class Move extends Command{
@@ -20,17 +19,30 @@ public class Move extends Command{
     public boolean execute(ChessGame chessGame) {
         checkNotInGame(chessGame);
         checkKingDie(chessGame);
-        Square source = new Square(squares.get(MOVE_SOURCE_INDEX));
-        Square target = new Square(squares.get(MOVE_TARGET_INDEX));
-        chessGame.move(source, target);
+        chessGame.tryMove(squares.get(MOVE_SOURCE_INDEX), squares.get(MOVE_TARGET_INDEX)).check();
         OutputView.showBoard(chessGame.getBoard());
-        announceKingDie(chessGame);
+        announceGameState(chessGame);
         return true;
     }
 
-    private void announceKingDie(ChessGame chessGame) {
+    private void announceGameState(ChessGame chessGame) {
         if (chessGame.isKingDie()) {
             OutputView.printKingDieMessage();
         }
+        if (chessGame.isCheckmate()) {
+            OutputView.printCheckmateMessage();
+        }
+        if (chessGame.isStalemate()) {
+            OutputView.printStalemateMessage();
+        }
+        if (chessGame.isRepetition()) {
+            OutputView.printRepetitionMessage();
+        }
+        if (chessGame.isFiftyMove()) {
+            OutputView.printFiftyMoveMessage();
+        }
+        if (chessGame.isInCheck()) {
+            OutputView.printCheckMessage();
+        }
     }
 }
@@ -14,9 +14,10 @@ public class Status extends Command{
     }
 
     public boolean execute(ChessGame chessGame) {
-        GameResult gameResult = new GameResult(chessGame.getBoard());
+        GameResult gameResult = new GameResult(chessGame.getBoard(), chessGame.getPawnTable());
         OutputView.showScore(gameResult, Color.WHITE);
         OutputView.showScore(gameResult, Color.BLACK);
+        OutputView.showPawnTable(chessGame.getPawnTable());
         return false;
     }
 }
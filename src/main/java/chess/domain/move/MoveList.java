@@ -0,0 +1,66 @@
+package chess.domain.move;
+
+import java.util.Arrays;
+
+public final class MoveList {
+    private static final String ERROR_MESSAGE_CAPACITY = "[ERROR] 수 목록의 크기는 0 이상이어야 해~";
+    private static final int DEFAULT_CAPACITY = 128;
+
+    private int[] moves;
+    private int size;
+
+    public MoveList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public MoveList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_CAPACITY);
+        }
+        this.moves = new int[capacity];
+    }
+
+    public void add(int move) {
+        if (size == moves.length) {
+            moves = Arrays.copyOf(moves, Math.max(DEFAULT_CAPACITY, size * 2));
+        }
+        moves[size++] = move;
+    }
+
+    public int get(int index) {
+        return moves[index];
+    }
+
+    public void set(int index, int move) {
+        moves[index] = move;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void truncate(int size) {
+        this.size = Math.min(this.size, size);
+    }
+
+    public boolean contains(int move) {
+        for (int index = 0; index < size; index++) {
+            if (PackedMove.withoutFlags(moves[index]) == PackedMove.withoutFlags(move)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(moves, size);
+    }
+}
@@ -0,0 +1,34 @@
+package chess.domain.move;
+
+/**
+ * 수를 검증한 결과다. 검증 중에는 예외를 만들지 않고, 화면이나 콘솔 경계에서만 메시지로 바꾼다.
+ */
+public enum MoveResult {
+    LEGAL(""),
+    WRONG_TURN("순서 지키시지?!"),
+    OFF_BOARD("[BUG] 체스판 범위를 벗어났습니다."),
+    POSITION_INCAPABLE("허걱... 거긴 못가... 미안.."),
+    ROUTE_BLOCKED("길이 막혔다...!"),
+    SAME_TEAM("[ERROR] 사격 중지!! 아군이다!! ><"),
+    PAWN_ATTACK_DIRECTION("[ERROR] 5252! 폰은 대각선으로만 공격할 수 있다능~");
+
+    private final String message;
+
+    MoveResult(String message) {
+        this.message = message;
+    }
+
+    public boolean isLegal() {
+        return this == LEGAL;
+    }
+
+    public void check() {
+        if (!isLegal()) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,75 @@
+package chess.domain.move;
+
+import java.util.Locale;
+
+import chess.domain.piece.PieceType;
+import chess.domain.position.Square;
+
+/**
+ * 한 수를 int 하나에 담는다.
+ * 0~5 비트는 출발 칸, 6~11 비트는 도착 칸, 12~14 비트는 승진할 말의 종류, 15 비트부터는 플래그다.
+ */
+public final class PackedMove {
+    public static final int NONE = 0;
+    public static final int CAPTURE = 1 << 15;
+    public static final int DOUBLE_STEP = 1 << 16;
+
+    private static final String ERROR_MESSAGE_FORMAT = "[ERROR] 수는 e2e4 처럼 입력해야 해~";
+    private static final int SQUARE_BITS = 6;
+    private static final int SQUARE_MASK = (1 << SQUARE_BITS) - 1;
+    private static final int TARGET_SHIFT = SQUARE_BITS;
+    private static final int PROMOTION_SHIFT = SQUARE_BITS * 2;
+    private static final int PROMOTION_MASK = 0b111;
+    private static final int FLAG_MASK = ~((1 << 15) - 1);
+    private static final int NOTATION_LENGTH = 4;
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+    private PackedMove() {
+    }
+
+    public static int of(Square source, Square target) {
+        return of(source, target, PieceType.NONE, NONE);
+    }
+
+    public static int of(Square source, Square target, int flags) {
+        return of(source, target, PieceType.NONE, flags);
+    }
+
+    public static int of(Square source, Square target, PieceType promotion, int flags) {
+        return source.getIndex()
+                | target.getIndex() << TARGET_SHIFT
+                | promotion.ordinal() << PROMOTION_SHIFT
+                | flags;
+    }
+
+    public static int parse(String notation) {
+        if (notation.length() != NOTATION_LENGTH) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_FORMAT);
+        }
+        return of(Square.of(notation.substring(0, 2)), Square.of(notation.substring(2)));
+    }
+
+    public static Square source(int move) {
+        return Square.of(move & SQUARE_MASK);
+    }
+
+    public static Square target(int move) {
+        return Square.of(move >>> TARGET_SHIFT & SQUARE_MASK);
+    }
+
+    public static PieceType promotion(int move) {
+        return PIECE_TYPES[move >>> PROMOTION_SHIFT & PROMOTION_MASK];
+    }
+
+    public static boolean has(int move, int flag) {
+        return (move & flag) != 0;
+    }
+
+    public static int withoutFlags(int move) {
+        return move & ~FLAG_MASK;
+    }
+
+    public static String toNotation(int move) {
+        return (source(move).getName() + target(move).getName()).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,103 @@
+package chess.domain.perft;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import chess.domain.board.Board;
+import chess.domain.move.MoveList;
+import chess.domain.move.PackedMove;
+import chess.domain.piece.Color;
+
+/**
+ * 주어진 깊이까지 둘 수 있는 수의 끝 노드를 센다.
+ * 킹을 잡으면 게임이 끝나므로, 그 아래로는 더 내려가지 않는다.
+ */
+public final class Perft {
+    private final Board board;
+
+    public Perft(Board board) {
+        this.board = board;
+    }
+
+    public long count(Color turn, int depth) {
+        return count(board, turn, depth, createMoveLists(depth));
+    }
+
+    public Map<String, Long> divide(Color turn, int depth) {
+        MoveList rootMoves = board.generateMoves(turn);
+        MoveList[] moveLists = createMoveLists(depth);
+        Map<String, Long> nodes = new LinkedHashMap<>();
+        for (int index = 0; index < rootMoves.size(); index++) {
+            int move = rootMoves.get(index);
+            nodes.put(PackedMove.toNotation(move), countAfter(board, turn, move, depth, moveLists));
+        }
+        return nodes;
+    }
+
+    public Map<String, Long> divide(Color turn, int depth, ForkJoinPool pool) {
+        MoveList rootMoves = board.generateMoves(turn);
+        List<ForkJoinTask<Long>> tasks = new ArrayList<>();
+        for (int index = 0; index < rootMoves.size(); index++) {
+            Board copied = board.copy();
+            int move = rootMoves.get(index);
+            tasks.add(pool.submit(() -> countAfter(copied, turn, move, depth, createMoveLists(depth))));
+        }
+        Map<String, Long> nodes = new LinkedHashMap<>();
+        for (int index = 0; index < rootMoves.size(); index++) {
+            nodes.put(PackedMove.toNotation(rootMoves.get(index)), tasks.get(index).join());
+        }
+        return nodes;
+    }
+
+    public List<PerftResult> measure(Color turn, int maxDepth, ForkJoinPool pool) {
+        List<PerftResult> results = new ArrayList<>();
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            long startedAt = System.nanoTime();
+            Map<String, Long> divided = divide(turn, depth, pool);
+            long nodes = divided.values().stream()
+                    .mapToLong(Long::longValue)
+                    .sum();
+            results.add(new PerftResult(depth, nodes, System.nanoTime() - startedAt, divided));
+        }
+        return results;
+    }
+
+    private static long count(Board board, Color turn, int depth, MoveList[] moveLists) {
+        if (depth == 0) {
+            return 1;
+        }
+        MoveList moves = moveLists[depth];
+        moves.clear();
+        board.generateMoves(turn, moves);
+        if (depth == 1) {
+            return moves.size();
+        }
+        long nodes = 0;
+        for (int index = 0; index < moves.size(); index++) {
+            nodes += countAfter(board, turn, moves.get(index), depth, moveLists);
+        }
+        return nodes;
+    }
+
+    private static long countAfter(Board board, Color turn, int move, int depth, MoveList[] moveLists) {
+        if (depth > 1 && board.isTargetKing(PackedMove.target(move))) {
+            return 0;
+        }
+        board.make(move);
+        long nodes = count(board, turn.switchColor(), depth - 1, moveLists);
+        board.unmake();
+        return nodes;
+    }
+
+    private static MoveList[] createMoveLists(int depth) {
+        MoveList[] moveLists = new MoveList[depth + 1];
+        for (int index = 0; index <= depth; index++) {
+            moveLists[index] = new MoveList();
+        }
+        return moveLists;
+    }
+}
@@ -0,0 +1,38 @@
+package chess.domain.perft;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public final class PerftResult {
+    private final int depth;
+    private final long nodes;
+    private final long elapsedNanos;
+    private final Map<String, Long> divided;
+
+    PerftResult(int depth, long nodes, long elapsedNanos, Map<String, Long> divided) {
+        this.depth = depth;
+        this.nodes = nodes;
+        this.elapsedNanos = elapsedNanos;
+        this.divided = divided;
+    }
+
+    public long getNodesPerSecond() {
+        return nodes * TimeUnit.SECONDS.toNanos(1) / Math.max(elapsedNanos, 1);
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    public Map<String, Long> getDivided() {
+        return divided;
+    }
+}
@@ -17,7 +17,7 @@ public final class Bishop extends MovingMultipleUnitPiece {
     }
 
     Bishop(Color color) {
-        super(color, 3, MOVABLE_DIRECTIONS);
+        super(PieceType.BISHOP, color, 3, MOVABLE_DIRECTIONS);
     }
 
     @Override
@@ -1,12 +1,18 @@
 package chess.domain.piece;
 
 import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public enum Color {
     BLACK("블랙"),
     WHITE("화이트"),
     NONE("");
 
+    private static final Map<String, Color> COLORS = Arrays.stream(values())
+            .collect(Collectors.toMap(Color::name, Function.identity()));
+
     private final String value;
 
     Color(String value) {
@@ -14,10 +20,11 @@ public enum Color {
     }
 
     public static Color find(String name) {
-        return Arrays.stream(values())
-                .filter(color -> color.name().equals(name))
-                .findFirst()
-                .orElseThrow(IllegalArgumentException::new);
+        Color color = COLORS.get(name);
+        if (color == null) {
+            throw new IllegalArgumentException();
+        }
+        return color;
     }
 
     public Color switchColor() {
@@ -5,43 +5,38 @@ import chess.domain.position.Row;
 
 public final class InitialPiecePositionChecker {
 
-    private final Column column;
-    private final Row row;
-
-    InitialPiecePositionChecker(Column column, Row row) {
-        this.column = column;
-        this.row = row;
+    private InitialPiecePositionChecker() {
     }
 
-    boolean isKing() {
-        return column == Column.E && isNotPawnOrNone();
+    static boolean isKing(Column column, Row row) {
+        return column == Column.E && isNotPawnOrNone(row);
     }
 
-    boolean isQueen() {
-        return column == Column.D && isNotPawnOrNone();
+    static boolean isQueen(Column column, Row row) {
+        return column == Column.D && isNotPawnOrNone(row);
     }
 
-    boolean isRook() {
-        return (column == Column.A || column == Column.H) && isNotPawnOrNone();
+    static boolean isRook(Column column, Row row) {
+        return (column == Column.A || column == Column.H) && isNotPawnOrNone(row);
     }
 
-    boolean isBishop() {
-        return (column == Column.C || column == Column.F) && isNotPawnOrNone();
+    static boolean isBishop(Column column, Row row) {
+        return (column == Column.C || column == Column.F) && isNotPawnOrNone(row);
     }
 
-    boolean isKnight() {
-        return (column == Column.B || column == Column.G) && isNotPawnOrNone();
+    static boolean isKnight(Column column, Row row) {
+        return (column == Column.B || column == Column.G) && isNotPawnOrNone(row);
     }
 
-    private boolean isNotPawnOrNone() {
+    private static boolean isNotPawnOrNone(Row row) {
         return row == Row.ONE || row == Row.EIGHT;
     }
 
-    boolean isPawn() {
+    static boolean isPawn(Column column, Row row) {
         return row == Row.TWO || row == Row.SEVEN;
     }
 
-    boolean isNone() {
+    static boolean isNone(Column column, Row row) {
         return row == Row.THREE || row == Row.FOUR || row == Row.FIVE || row == Row.SIX;
     }
 }
@@ -2,41 +2,63 @@ package chess.domain.piece;
 
 import java.util.Arrays;
 import java.util.function.BiPredicate;
-import java.util.function.Function;
 
 import chess.domain.position.Column;
 import chess.domain.position.Row;
 
+/**
+ * 처음 배치는 바뀌지 않으므로 64 칸의 종류와 말을 클래스가 올라올 때 한 번만 찾아 둔다.
+ * 이후 조회는 배열에서 꺼내기만 하므로 아무것도 만들지 않는다.
+ */
 public enum InitialPositionPieceGenerator {
-    KING((column, row) -> new InitialPiecePositionChecker(column, row).isKing(), row -> new King(getColor(row))),
-    QUEEN((column, row) -> new InitialPiecePositionChecker(column, row).isQueen(), row -> new Queen(getColor(row))),
-    ROOK((column, row) -> new InitialPiecePositionChecker(column, row).isRook(), row -> new Rook(getColor(row))),
-    BISHOP((column, row) -> new InitialPiecePositionChecker(column, row).isBishop(), row -> new Bishop(getColor(row))),
-    KNIGHT((column, row) -> new InitialPiecePositionChecker(column, row).isKnight(), row -> new Knight(getColor(row))),
-    PAWN((column, row) -> new InitialPiecePositionChecker(column, row).isPawn(), row -> new Pawn(getColor(row))),
-    NONE((column, row) -> new InitialPiecePositionChecker(column, row).isNone(), row -> new None(getColor(row)));
+    KING(InitialPiecePositionChecker::isKing, PieceType.KING),
+    QUEEN(InitialPiecePositionChecker::isQueen, PieceType.QUEEN),
+    ROOK(InitialPiecePositionChecker::isRook, PieceType.ROOK),
+    BISHOP(InitialPiecePositionChecker::isBishop, PieceType.BISHOP),
+    KNIGHT(InitialPiecePositionChecker::isKnight, PieceType.KNIGHT),
+    PAWN(InitialPiecePositionChecker::isPawn, PieceType.PAWN),
+    NONE(InitialPiecePositionChecker::isNone, PieceType.NONE);
+
+    private static final int BOARD_SIZE = Column.values().length;
+    private static final int SQUARE_COUNT = BOARD_SIZE * BOARD_SIZE;
+    private static final InitialPositionPieceGenerator[] TYPES = new InitialPositionPieceGenerator[SQUARE_COUNT];
+    private static final Piece[] PIECES = new Piece[SQUARE_COUNT];
+
+    static {
+        for (Row row : Row.values()) {
+            for (Column column : Column.values()) {
+                InitialPositionPieceGenerator type = find(column, row);
+                TYPES[indexOf(column, row)] = type;
+                PIECES[indexOf(column, row)] = Piece.of(type.pieceType, getColor(row));
+            }
+        }
+    }
 
     private final BiPredicate<Column, Row> condition;
-    private final Function<Row, Piece> colorOf;
+    private final PieceType pieceType;
 
-    InitialPositionPieceGenerator(BiPredicate<Column, Row> condition, Function<Row, Piece> colorOf) {
+    InitialPositionPieceGenerator(BiPredicate<Column, Row> condition, PieceType pieceType) {
         this.condition = condition;
-        this.colorOf = colorOf;
+        this.pieceType = pieceType;
     }
 
-    public static Piece generatePiece(Column column, Row row) {
-        return Arrays.stream(InitialPositionPieceGenerator.values())
+    private static InitialPositionPieceGenerator find(Column column, Row row) {
+        return Arrays.stream(values())
                 .filter(piece -> piece.condition.test(column, row))
-                .map(piece -> piece.colorOf.apply(row))
                 .findFirst()
                 .orElseThrow(IllegalArgumentException::new);
     }
 
+    private static int indexOf(Column column, Row row) {
+        return (row.getIndex() - 1) * BOARD_SIZE + column.getIndex() - 1;
+    }
+
+    public static Piece generatePiece(Column column, Row row) {
+        return PIECES[indexOf(column, row)];
+    }
+
     public static InitialPositionPieceGenerator getType(Column column, Row row) {
-        return Arrays.stream(InitialPositionPieceGenerator.values())
-                .filter(piece -> piece.condition.test(column, row))
-                .findFirst()
-                .orElseThrow(IllegalArgumentException::new);
+        return TYPES[indexOf(column, row)];
     }
 
     public static Color getColor(Row row) {
@@ -17,7 +17,7 @@ public final class King extends MovingUnitPiece {
     }
 
     King(Color color) {
-        super(color, 0, MOVABLE_DIRECTIONS);
+        super(PieceType.KING, color, 0, MOVABLE_DIRECTIONS);
     }
 
     @Override
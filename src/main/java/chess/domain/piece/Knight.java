@@ -17,7 +17,7 @@ public final class Knight extends MovingUnitPiece {
     }
 
     Knight(Color color) {
-        super(color, 2.5, MOVABLE_DIRECTIONS);
+        super(PieceType.KNIGHT, color, 2.5, MOVABLE_DIRECTIONS);
     }
 
     @Override
@@ -8,8 +8,8 @@ import chess.domain.position.UnitDirection;
 public abstract class MovingMultipleUnitPiece extends Piece {
     List<UnitDirection> movableDirections;
 
-    MovingMultipleUnitPiece(Color color, double score, List<UnitDirection> directions) {
-        super(color, score);
+    MovingMultipleUnitPiece(PieceType type, Color color, double score, List<UnitDirection> directions) {
+        super(type, color, score);
         this.movableDirections = directions;
     }
 
@@ -18,6 +18,16 @@ public abstract class MovingMultipleUnitPiece extends Piece {
         return movement.hasMultiple(movableDirections);
     }
 
+    @Override
+    public List<UnitDirection> getMovableDirections() {
+        return movableDirections;
+    }
+
+    @Override
+    public boolean isSliding() {
+        return true;
+    }
+
     @Override
     public boolean isNone() {
         return false;
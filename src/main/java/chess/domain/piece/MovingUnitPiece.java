@@ -8,8 +8,8 @@ import chess.domain.position.UnitDirection;
 public abstract class MovingUnitPiece extends Piece {
     List<UnitDirection> movableDirections;
 
-    MovingUnitPiece(Color color, double score, List<UnitDirection> directions) {
-        super(color, score);
+    MovingUnitPiece(PieceType type, Color color, double score, List<UnitDirection> directions) {
+        super(type, color, score);
         this.movableDirections = directions;
     }
 
@@ -18,6 +18,11 @@ public abstract class MovingUnitPiece extends Piece {
         return movement.hasSame(movableDirections);
     }
 
+    @Override
+    public List<UnitDirection> getMovableDirections() {
+        return movableDirections;
+    }
+
     @Override
     public boolean isNone() {
         return false;
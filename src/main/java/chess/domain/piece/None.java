@@ -1,12 +1,15 @@
 package chess.domain.piece;
 
+import java.util.List;
+
 import chess.domain.position.Movement;
+import chess.domain.position.UnitDirection;
 
 public final class None extends Piece {
     private static final String NONE = " ";
 
     public None(Color color) {
-        super(color, 0);
+        super(PieceType.NONE, color, 0);
     }
 
     @Override
@@ -19,6 +22,11 @@ public final class None extends Piece {
         return false;
     }
 
+    @Override
+    public List<UnitDirection> getMovableDirections() {
+        return List.of();
+    }
+
     @Override
     public boolean isNone() {
         return true;
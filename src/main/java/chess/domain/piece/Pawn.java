@@ -4,7 +4,10 @@ import static chess.domain.position.UnitDirection.*;
 
 import java.util.List;
 
+import chess.domain.move.MoveResult;
 import chess.domain.position.Movement;
+import chess.domain.position.Row;
+import chess.domain.position.Square;
 import chess.domain.position.UnitDirection;
 
 public final class Pawn extends MovingUnitPiece {
@@ -14,17 +17,13 @@ public final class Pawn extends MovingUnitPiece {
     private static final List<UnitDirection> MOVABLE_DIRECTIONS;
     private static final List<UnitDirection> ATTACK_DIRECTIONS = List.of(EN, WN);
     private static final List<UnitDirection> START_DIRECTIONS = List.of(NN);
-    private static final String ERROR_MESSAGE_ATTACK_DIRECTION = "[ERROR] 5252! 폰은 대각선으로만 공격할 수 있다능~";
 
     static {
         MOVABLE_DIRECTIONS = List.of(N);
     }
 
-    private boolean start;
-
     Pawn(Color color) {
-        super(color, 1, MOVABLE_DIRECTIONS);
-        this.start = true;
+        super(PieceType.PAWN, color, 1, MOVABLE_DIRECTIONS);
     }
 
     @Override
@@ -50,37 +49,71 @@ public final class Pawn extends MovingUnitPiece {
         return false;
     }
 
+    /**
+     * 출발 칸을 모르므로 첫 이동의 두 칸 전진은 늘 안 된다고 답한다.
+     *
+     * @deprecated 출발 칸을 받는 {@link #canMove(Square, Movement, Piece)} 나
+     *     {@link #validate(Square, Movement, Piece)} 를 쓴다.
+     */
+    @Deprecated
     @Override
     public boolean canMove(Movement movement, Piece target) {
+        return validate(movement, target, false).isLegal();
+    }
+
+    @Override
+    public MoveResult validate(Square source, Movement movement, Piece target) {
+        return validate(movement, target, isStart(source));
+    }
+
+    private MoveResult validate(Movement movement, Piece target, boolean start) {
         if (color == Color.BLACK) {
             movement = movement.flipAboutX();
         }
 
-        if (checkCanAttack(movement, target) || checkIsStart(movement, target)
-                || checkCanMove(movement, target)) {
-            this.start = false;
-            return true;
+        if (checkCanAttack(movement, target)) {
+            return MoveResult.LEGAL;
         }
-        return false;
+        if (!target.isNone()) {
+            return MoveResult.PAWN_ATTACK_DIRECTION;
+        }
+        if (checkIsStart(movement, start) || movement.hasSame(MOVABLE_DIRECTIONS)) {
+            return MoveResult.LEGAL;
+        }
+        return MoveResult.POSITION_INCAPABLE;
     }
 
-    private boolean checkCanAttack(Movement movement, Piece target) {
-        return movement.hasSame(ATTACK_DIRECTIONS) && !target.isNone();
+    @Override
+    public List<UnitDirection> getAttackDirections() {
+        return ATTACK_DIRECTIONS;
     }
 
-    private boolean checkIsStart(Movement movement, Piece target) {
-        checkTarget(target);
-        return start && movement.hasSame(START_DIRECTIONS);
+    @Override
+    public List<UnitDirection> getStartDirections() {
+        return START_DIRECTIONS;
     }
 
-    private boolean checkCanMove(Movement movement, Piece target) {
-        checkTarget(target);
-        return movement.hasSame(MOVABLE_DIRECTIONS);
+    @Override
+    public Movement orient(UnitDirection direction) {
+        if (color == Color.BLACK) {
+            return direction.getDirection().flipAboutX();
+        }
+        return direction.getDirection();
     }
 
-    private void checkTarget(Piece target) {
-        if (!target.isNone()) {
-            throw new IllegalArgumentException(ERROR_MESSAGE_ATTACK_DIRECTION);
+    @Override
+    public boolean isStart(Square source) {
+        if (color == Color.BLACK) {
+            return source.getRow() == Row.SEVEN;
         }
+        return source.getRow() == Row.TWO;
+    }
+
+    private boolean checkCanAttack(Movement movement, Piece target) {
+        return movement.hasSame(ATTACK_DIRECTIONS) && !target.isNone();
+    }
+
+    private boolean checkIsStart(Movement movement, boolean start) {
+        return start && movement.hasSame(START_DIRECTIONS);
     }
 }
@@ -1,16 +1,21 @@
 package chess.domain.piece;
 
+import java.util.List;
+
+import chess.domain.move.MoveResult;
 import chess.domain.position.Column;
 import chess.domain.position.Movement;
 import chess.domain.position.Row;
+import chess.domain.position.Square;
+import chess.domain.position.UnitDirection;
 
 public abstract class Piece {
-    private static final String ERROR_MESSAGE_POSITION_SAME_TEAM = "사격 중지!! 아군이다!! ><";
-
+    final PieceType type;
     final Color color;
     final double score;
 
-    Piece(Color color, double score) {
+    Piece(PieceType type, Color color, double score) {
+        this.type = type;
         this.color = color;
         this.score = score;
     }
@@ -23,20 +28,59 @@ public abstract class Piece {
         return SavedConditionPieceGenerator.generatePiece(type, color);
     }
 
+    public static Piece of(PieceType type, Color color) {
+        return SavedConditionPieceGenerator.of(type, color);
+    }
+
+    public static Piece none() {
+        return of(PieceType.NONE, Color.NONE);
+    }
+
     public abstract String getEmoji();
 
     public abstract boolean canMove(Movement movement, Piece otherPiece);
 
-    public void checkSameTeam(Piece otherPiece) {
-        if (isSameColor(otherPiece.color)) {
-            throw new IllegalArgumentException(ERROR_MESSAGE_POSITION_SAME_TEAM);
+    public boolean canMove(Square source, Movement movement, Piece otherPiece) {
+        return validate(source, movement, otherPiece).isLegal();
+    }
+
+    public MoveResult validate(Square source, Movement movement, Piece otherPiece) {
+        if (canMove(movement, otherPiece)) {
+            return MoveResult.LEGAL;
         }
+        return MoveResult.POSITION_INCAPABLE;
+    }
+
+    public abstract List<UnitDirection> getMovableDirections();
+
+    public List<UnitDirection> getAttackDirections() {
+        return getMovableDirections();
+    }
+
+    public List<UnitDirection> getStartDirections() {
+        return List.of();
+    }
+
+    public Movement orient(UnitDirection direction) {
+        return direction.getDirection();
+    }
+
+    public boolean isSliding() {
+        return false;
+    }
+
+    public boolean isSameTeam(Piece otherPiece) {
+        return isSameColor(otherPiece.color);
     }
 
     public boolean isSameColor(Color color) {
         return color == this.color;
     }
 
+    public boolean isStart(Square source) {
+        return false;
+    }
+
     public abstract boolean isNone();
 
     public abstract boolean isPawn();
@@ -46,4 +90,12 @@ public abstract class Piece {
     public double getScore() {
         return score;
     }
+
+    public PieceType getType() {
+        return type;
+    }
+
+    public Color getColor() {
+        return color;
+    }
 }
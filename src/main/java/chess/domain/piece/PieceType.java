@@ -0,0 +1,11 @@
+package chess.domain.piece;
+
+public enum PieceType {
+    KING,
+    QUEEN,
+    ROOK,
+    BISHOP,
+    KNIGHT,
+    PAWN,
+    NONE
+}
@@ -17,7 +17,7 @@ public final class Queen extends MovingMultipleUnitPiece {
     }
 
     Queen(Color color) {
-        super(color, 9, MOVABLE_DIRECTIONS);
+        super(PieceType.QUEEN, color, 9, MOVABLE_DIRECTIONS);
     }
 
     @Override
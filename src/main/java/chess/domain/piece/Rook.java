@@ -17,7 +17,7 @@ public final class Rook extends MovingMultipleUnitPiece {
     }
 
     Rook(Color color) {
-        super(color, 5, MOVABLE_DIRECTIONS);
+        super(PieceType.ROOK, color, 5, MOVABLE_DIRECTIONS);
     }
 
     @Override
@@ -1,31 +1,40 @@
 package chess.domain.piece;
 
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.function.Function;
-import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 public enum SavedConditionPieceGenerator {
-    KING("KING"::equals, color -> new King(Color.find(color))),
-    QUEEN("QUEEN"::equals, color -> new Queen(Color.find(color))),
-    ROOK("ROOK"::equals, color -> new Rook(Color.find(color))),
-    BISHOP("BISHOP"::equals, color -> new Bishop(Color.find(color))),
-    KNIGHT("KNIGHT"::equals, color -> new Knight(Color.find(color))),
-    PAWN("PAWN"::equals, color -> new Pawn(Color.find(color))),
-    NONE("NONE"::equals, color -> new None(Color.find(color)));
+    KING(King::new),
+    QUEEN(Queen::new),
+    ROOK(Rook::new),
+    BISHOP(Bishop::new),
+    KNIGHT(Knight::new),
+    PAWN(Pawn::new),
+    NONE(None::new);
 
-    private final Predicate<String> condition;
-    private final Function<String, Piece> colorOf;
+    private static final Map<String, SavedConditionPieceGenerator> GENERATORS = Arrays.stream(values())
+            .collect(Collectors.toMap(SavedConditionPieceGenerator::name, Function.identity()));
 
-    SavedConditionPieceGenerator(Predicate<String> condition, Function<String, Piece> colorOf) {
-        this.condition = condition;
-        this.colorOf = colorOf;
+    private final Map<Color, Piece> pieces;
+
+    SavedConditionPieceGenerator(Function<Color, Piece> colorOf) {
+        this.pieces = Arrays.stream(Color.values())
+                .collect(Collectors.toMap(Function.identity(), colorOf, (piece, other) -> piece,
+                        () -> new EnumMap<>(Color.class)));
     }
 
     public static Piece generatePiece(String type, String color) {
-        return Arrays.stream(SavedConditionPieceGenerator.values())
-                .filter(piece -> piece.condition.test(type))
-                .map(piece -> piece.colorOf.apply(color))
-                .findFirst()
-                .orElseThrow(IllegalArgumentException::new);
+        SavedConditionPieceGenerator generator = GENERATORS.get(type);
+        if (generator == null) {
+            throw new IllegalArgumentException();
+        }
+        return generator.pieces.get(Color.find(color));
+    }
+
+    static Piece of(PieceType type, Color color) {
+        return GENERATORS.get(type.name()).pieces.get(color);
     }
 }
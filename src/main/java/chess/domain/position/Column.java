@@ -1,7 +1,5 @@
 package chess.domain.position;
 
-import java.util.Arrays;
-
 public enum Column {
     A('a', 1),
     B('b', 2),
@@ -13,6 +11,8 @@ public enum Column {
     H('h', 8);
 
     private static final String BUG_MESSAGE_BOUND = "[BUG] 체스판 범위를 벗어났습니다.";
+    private static final Column[] COLUMNS = values();
+
     private final char value;
     private final int index;
 
@@ -22,20 +22,34 @@ public enum Column {
     }
 
     public static Column find(char value) {
-        return Arrays.stream(values())
-                .filter(file -> file.value == value)
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException(BUG_MESSAGE_BOUND));
+        return of(value - A.value + A.index);
+    }
+
+    public static boolean contains(char value) {
+        return value >= A.value && value <= H.value;
+    }
+
+    public static Column of(int index) {
+        if (index < A.index || index > H.index) {
+            throw new IllegalArgumentException(BUG_MESSAGE_BOUND);
+        }
+        return COLUMNS[index - A.index];
     }
 
     int getGap(Column target) {
         return target.index - this.index;
     }
 
+    boolean canAdd(int dFile) {
+        int index = this.index + dFile;
+        return index >= A.index && index <= H.index;
+    }
+
     Column add(int dFile) {
-        return Arrays.stream(values())
-                .filter(file -> file.index == this.index + dFile)
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException(BUG_MESSAGE_BOUND));
+        return of(this.index + dFile);
+    }
+
+    public int getIndex() {
+        return index;
     }
 }
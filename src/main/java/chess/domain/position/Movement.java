@@ -1,38 +1,78 @@
 package chess.domain.position;
 
 import java.util.List;
-import java.util.Objects;
 
 public final class Movement {
+    private static final String BUG_MESSAGE_BOUND = "[BUG] 체스판 범위를 벗어난 이동입니다.";
+    private static final int MAX_GAP = Column.values().length - 1;
+    private static final int TABLE_SIZE = MAX_GAP * 2 + 1;
+    private static final Movement[] MOVEMENTS = new Movement[TABLE_SIZE * TABLE_SIZE];
+
+    static {
+        for (int dFile = -MAX_GAP; dFile <= MAX_GAP; dFile++) {
+            for (int dRank = -MAX_GAP; dRank <= MAX_GAP; dRank++) {
+                MOVEMENTS[toIndex(dFile, dRank)] = new Movement(dFile, dRank);
+            }
+        }
+        for (Movement movement : MOVEMENTS) {
+            movement.unitMovement = movement.computeUnitMovement();
+        }
+    }
+
     private final int dFile;
     private final int dRank;
+    private Movement unitMovement;
 
-    public Movement(int dFile, int dRank) {
+    private Movement(int dFile, int dRank) {
         this.dFile = dFile;
         this.dRank = dRank;
     }
 
+    public static Movement of(int dFile, int dRank) {
+        if (Math.abs(dFile) > MAX_GAP || Math.abs(dRank) > MAX_GAP) {
+            throw new IllegalArgumentException(BUG_MESSAGE_BOUND);
+        }
+        return MOVEMENTS[toIndex(dFile, dRank)];
+    }
+
+    private static int toIndex(int dFile, int dRank) {
+        return (dFile + MAX_GAP) * TABLE_SIZE + (dRank + MAX_GAP);
+    }
+
+    boolean canAdd(Column column, Row row) {
+        return column.canAdd(dFile) && row.canAdd(dRank);
+    }
+
     Square add(Column column, Row row) {
-        return new Square(column.add(dFile), row.add(dRank));
+        return Square.of(column.add(dFile), row.add(dRank));
     }
 
     public Movement flipAboutX() {
-        return new Movement(dFile, -1 * dRank);
+        return of(dFile, -1 * dRank);
     }
 
     public boolean hasSame(List<UnitDirection> directions) {
-        return directions.stream()
-                .map(UnitDirection::getDirection)
-                .anyMatch(this::equals);
+        for (UnitDirection direction : directions) {
+            if (direction.getDirection() == this) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public boolean hasMultiple(List<UnitDirection> directions) {
-        return directions.stream()
-                .map(UnitDirection::getDirection)
-                .anyMatch(direction -> this.getUnitMovement().equals(direction));
+        return getUnitMovement().hasSame(directions);
+    }
+
+    public boolean isStraight() {
+        return dFile == 0 || dRank == 0 || Math.abs(dFile) == Math.abs(dRank);
     }
 
     public Movement getUnitMovement() {
+        return unitMovement;
+    }
+
+    private Movement computeUnitMovement() {
         if (dFile == 0 || dRank == 0) {
             return getUpDownLeftRightMovement();
         }
@@ -42,19 +82,19 @@ public final class Movement {
 
     private Movement getUpDownLeftRightMovement() {
         if (dFile == 0 && dRank == 0) {
-            return new Movement(dFile, dRank);
+            return this;
         }
 
         if (dFile == 0) {
-            return new Movement(dFile, dRank / Math.abs(dRank));
+            return of(dFile, dRank / Math.abs(dRank));
         }
 
-        return new Movement(dFile / Math.abs(dFile), dRank);
+        return of(dFile / Math.abs(dFile), dRank);
     }
 
     private Movement getDiagonalMovement() {
         int gcd = gcd(Math.abs(dFile), Math.abs(dRank));
-        return new Movement(dFile / gcd, dRank / gcd);
+        return of(dFile / gcd, dRank / gcd);
     }
 
     private int gcd(int a, int b) {
@@ -63,21 +103,4 @@ public final class Movement {
         }
         return gcd(b, a % b);
     }
-
-    @Override
-    public boolean equals(Object o) {
-        if (this == o) {
-            return true;
-        }
-        if (o == null || getClass() != o.getClass()) {
-            return false;
-        }
-        Movement movement = (Movement)o;
-        return dFile == movement.dFile && dRank == movement.dRank;
-    }
-
-    @Override
-    public int hashCode() {
-        return Objects.hash(dFile, dRank);
-    }
 }
@@ -1,7 +1,5 @@
 package chess.domain.position;
 
-import java.util.Arrays;
-
 public enum Row {
     ONE('1', 1),
     TWO('2', 2),
@@ -13,6 +11,8 @@ public enum Row {
     EIGHT('8', 8);
 
     private static final String BUG_MESSAGE_BOUND = "[BUG] 체스판 범위를 벗어났습니다.";
+    private static final Row[] ROWS = values();
+
     private final char value;
     private final int index;
 
@@ -22,21 +22,31 @@ public enum Row {
     }
 
     public static Row find(char value) {
-        return Arrays.stream(values())
-                .filter(rank -> rank.value == value)
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException(BUG_MESSAGE_BOUND));
+        return of(value - ONE.value + ONE.index);
+    }
+
+    public static boolean contains(char value) {
+        return value >= ONE.value && value <= EIGHT.value;
+    }
+
+    public static Row of(int index) {
+        if (index < ONE.index || index > EIGHT.index) {
+            throw new IllegalArgumentException(BUG_MESSAGE_BOUND);
+        }
+        return ROWS[index - ONE.index];
     }
 
     int getGap(Row target) {
         return target.index - this.index;
     }
 
+    boolean canAdd(int dRank) {
+        int index = this.index + dRank;
+        return index >= ONE.index && index <= EIGHT.index;
+    }
+
     Row add(int dRank) {
-        return Arrays.stream(values())
-                .filter(rank -> rank.index == this.index + dRank)
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException(BUG_MESSAGE_BOUND));
+        return of(this.index + dRank);
     }
 
     public int getIndex() {
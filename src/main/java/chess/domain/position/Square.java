@@ -1,29 +1,72 @@
 package chess.domain.position;
 
-import java.util.Locale;
-import java.util.Objects;
-
-public class Square {
+public final class Square {
+    private static final String BUG_MESSAGE_BOUND = "[BUG] 체스판 범위를 벗어났습니다.";
     private static final int FILE_INDEX = 0;
     private static final int RANK_INDEX = 1;
+    private static final int NAME_LENGTH = 2;
+    private static final int BOARD_SIZE = Column.values().length;
+    private static final Square[] SQUARES = new Square[BOARD_SIZE * BOARD_SIZE];
+
+    static {
+        for (Row row : Row.values()) {
+            for (Column column : Column.values()) {
+                Square square = new Square(column, row);
+                SQUARES[square.index] = square;
+            }
+        }
+    }
 
     private final Column column;
     private final Row row;
+    private final int index;
+    private final String name;
 
-    public Square(String position) {
-        this(Column.find(position.toLowerCase(Locale.ROOT).charAt(FILE_INDEX)),
-                Row.find(position.toLowerCase(Locale.ROOT).charAt(RANK_INDEX)));
-    }
-
-    public Square(Column column, Row row) {
+    private Square(Column column, Row row) {
         this.column = column;
         this.row = row;
+        this.index = toIndex(column.getIndex(), row.getIndex());
+        this.name = column.name() + row.getIndex();
+    }
+
+    public static Square of(String position) {
+        return of(Column.find(Character.toLowerCase(position.charAt(FILE_INDEX))),
+                Row.find(position.charAt(RANK_INDEX)));
+    }
+
+    public static boolean isOnBoard(String position) {
+        return position != null && position.length() == NAME_LENGTH
+                && Column.contains(Character.toLowerCase(position.charAt(FILE_INDEX)))
+                && Row.contains(position.charAt(RANK_INDEX));
+    }
+
+    public static Square of(Column column, Row row) {
+        return SQUARES[toIndex(column.getIndex(), row.getIndex())];
+    }
+
+    public static Square of(int file, int rank) {
+        return of(Column.of(file), Row.of(rank));
+    }
+
+    public static Square of(int index) {
+        if (index < 0 || index >= SQUARES.length) {
+            throw new IllegalArgumentException(BUG_MESSAGE_BOUND);
+        }
+        return SQUARES[index];
+    }
+
+    private static int toIndex(int file, int rank) {
+        return (rank - 1) * BOARD_SIZE + (file - 1);
     }
 
     public Movement getGap(Square target) {
         int gapOfFile = column.getGap(target.column);
         int gapOfRank = row.getGap(target.row);
-        return new Movement(gapOfFile, gapOfRank);
+        return Movement.of(gapOfFile, gapOfRank);
+    }
+
+    public boolean canAdd(Movement movement) {
+        return movement.canAdd(column, row);
     }
 
     public Square add(Movement movement) {
@@ -34,25 +77,24 @@ public class Square {
         return this.column == column;
     }
 
+    public Column getColumn() {
+        return column;
+    }
+
+    public Row getRow() {
+        return row;
+    }
+
     public String getName() {
-        return column.name() + row.getIndex();
+        return name;
     }
 
-    @Override
-    public boolean equals(Object o) {
-        if (this == o) {
-            return true;
-        }
-        if (o == null || getClass() != o.getClass()) {
-            return false;
-        }
-        Square square = (Square)o;
-        return column == square.column && row == square.row;
+    public int getIndex() {
+        return index;
     }
 
     @Override
-    public int hashCode() {
-        return Objects.hash(column, row);
+    public String toString() {
+        return name;
     }
-
 }
@@ -0,0 +1,320 @@
+package chess.engine;
+
+import chess.domain.ChessGame;
+import chess.domain.PositionHistory;
+import chess.domain.board.Board;
+import chess.domain.move.MoveList;
+import chess.domain.move.PackedMove;
+import chess.domain.piece.Color;
+
+/**
+ * 반복 심화 알파-베타 탐색.
+ * 얕은 깊이의 결과가 치환표와 수 정렬에 남아 다음 깊이의 컷을 앞당기므로, 한도에 걸려 멈춰도 마지막으로 끝낸 깊이의 수를 돌려줄 수 있다.
+ * 수 생성은 체크를 거르지 않으므로, 두고 나서 자기 킹이 공격받는 수는 건너뛴다.
+ */
+public final class AlphaBetaSearch implements Engine {
+    public static final int DEFAULT_HASH_MEGABYTES = 16;
+
+    private static final String ERROR_MESSAGE_FINISHED = "[ERROR] 이미 끝난 게임이야~";
+    private static final int CHECK_INTERVAL = 1 << 10;
+
+    private final Evaluator evaluator;
+    private final TranspositionTable table;
+    private final MoveOrdering ordering;
+    private final MoveList[] moveLists;
+    private final long[] pathKeys;
+    private final int helperIndex;
+    private volatile boolean stopped;
+    private Board board;
+    private PositionHistory history;
+    private SearchLimits limits;
+    private long startNanos;
+    private long nodes;
+
+    public AlphaBetaSearch() {
+        this(new NeuralEvaluator(), new TranspositionTable(DEFAULT_HASH_MEGABYTES));
+    }
+
+    public AlphaBetaSearch(Evaluator evaluator, TranspositionTable table) {
+        this(evaluator, table, 0);
+    }
+
+    AlphaBetaSearch(Evaluator evaluator, TranspositionTable table, int helperIndex) {
+        this.evaluator = evaluator;
+        this.table = table;
+        this.ordering = new MoveOrdering();
+        this.moveLists = new MoveList[Scores.MAX_PLY];
+        for (int ply = 0; ply < Scores.MAX_PLY; ply++) {
+            moveLists[ply] = new MoveList();
+        }
+        this.pathKeys = new long[Scores.MAX_PLY];
+        this.helperIndex = helperIndex;
+    }
+
+    @Override
+    public SearchResult search(ChessGame chessGame, SearchLimits limits) {
+        if (chessGame.isFinished()) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_FINISHED);
+        }
+        prepare();
+        return run(chessGame, limits);
+    }
+
+    void prepare() {
+        stopped = false;
+    }
+
+    SearchResult run(ChessGame chessGame, SearchLimits limits) {
+        this.board = chessGame.getBoard().copy();
+        evaluator.attach(board);
+        this.history = chessGame.getHistory();
+        this.limits = limits;
+        this.startNanos = System.nanoTime();
+        this.nodes = 0;
+        ordering.clear();
+
+        Color color = chessGame.getTurn().getColor();
+        MoveList rootMoves = RootMoves.legal(board, color);
+        if (rootMoves.isEmpty()) {
+            return result(SearchResult.NO_MOVE, noMoveScore(color, 0), 0);
+        }
+        int kingCapture = RootMoves.findKingCapture(board, rootMoves, color);
+        if (kingCapture != SearchResult.NO_MOVE) {
+            return result(kingCapture, Scores.MATE, 1);
+        }
+        rotate(rootMoves, helperIndex % rootMoves.size());
+        return iterate(rootMoves, color);
+    }
+
+    private static void rotate(MoveList moves, int count) {
+        for (int index = 0; index < count; index++) {
+            moveToFront(moves, moves.size() - 1);
+        }
+    }
+
+    private SearchResult iterate(MoveList rootMoves, Color color) {
+        int bestMove = rootMoves.get(0);
+        int bestScore = Scores.DRAW;
+        int completedDepth = 0;
+        for (int depth = 1 + helperIndex % 2; depth <= limits.getDepth(); depth++) {
+            int score = searchRoot(rootMoves, color, depth);
+            if (stopped) {
+                break;
+            }
+            bestMove = rootMoves.get(0);
+            bestScore = score;
+            completedDepth = depth;
+            if (Scores.isMate(score) || !limits.hasTimeForNextDepth(elapsedMillis())) {
+                break;
+            }
+        }
+        return result(bestMove, bestScore, completedDepth);
+    }
+
+    private int searchRoot(MoveList rootMoves, Color color, int depth) {
+        int alpha = -Scores.INFINITE;
+        pathKeys[0] = board.getZobristKey();
+        for (int index = 0; index < rootMoves.size(); index++) {
+            int move = rootMoves.get(index);
+            board.make(move);
+            int score = -negamax(depth - 1, 1, -Scores.INFINITE, -alpha, color.switchColor());
+            board.unmake();
+            if (stopped) {
+                return alpha;
+            }
+            if (score > alpha) {
+                alpha = score;
+                moveToFront(rootMoves, index);
+            }
+        }
+        return alpha;
+    }
+
+    private static void moveToFront(MoveList moves, int index) {
+        int move = moves.get(index);
+        for (int position = index; position > 0; position--) {
+            moves.set(position, moves.get(position - 1));
+        }
+        moves.set(0, move);
+    }
+
+    private int negamax(int depth, int ply, int alpha, int beta, Color color) {
+        if (depth <= 0) {
+            return quiescence(ply, alpha, beta, color);
+        }
+        if (countNode()) {
+            return Scores.DRAW;
+        }
+        if (board.isInCheck(color.switchColor())) {
+            return Scores.MATE - ply;
+        }
+        long key = board.getZobristKey();
+        if (isRepetition(key, ply)) {
+            return Scores.DRAW;
+        }
+        if (ply >= Scores.MAX_PLY - 1) {
+            return evaluator.evaluate(board, color);
+        }
+        pathKeys[ply] = key;
+
+        long entry = table.probe(key);
+        int tableMove = SearchResult.NO_MOVE;
+        if (TranspositionTable.isHit(entry)) {
+            tableMove = TranspositionTable.move(entry);
+            if (TranspositionTable.depth(entry) >= depth && isUsable(entry, ply, alpha, beta)) {
+                return Scores.fromTable(TranspositionTable.score(entry), ply);
+            }
+        }
+
+        MoveList moves = moveLists[ply];
+        moves.clear();
+        board.generateMoves(color, moves);
+        ordering.score(board, moves, tableMove, ply);
+
+        int originalAlpha = alpha;
+        int bestScore = -Scores.INFINITE;
+        int bestMove = SearchResult.NO_MOVE;
+        int legalMoves = 0;
+        for (int index = 0; index < moves.size(); index++) {
+            int move = ordering.next(moves, index, ply);
+            board.make(move);
+            if (board.isInCheck(color)) {
+                board.unmake();
+                continue;
+            }
+            legalMoves++;
+            int score = -negamax(depth - 1, ply + 1, -beta, -alpha, color.switchColor());
+            board.unmake();
+            if (stopped) {
+                return Scores.DRAW;
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = move;
+            }
+            if (score > alpha) {
+                alpha = score;
+            }
+            if (alpha >= beta) {
+                ordering.addCutoff(move, depth, ply);
+                break;
+            }
+        }
+        if (legalMoves == 0) {
+            return noMoveScore(color, ply);
+        }
+        table.store(key, bestMove, Scores.toTable(bestScore, ply), depth, bound(bestScore, originalAlpha, beta));
+        return bestScore;
+    }
+
+    private int quiescence(int ply, int alpha, int beta, Color color) {
+        if (countNode()) {
+            return Scores.DRAW;
+        }
+        if (board.isInCheck(color.switchColor())) {
+            return Scores.MATE - ply;
+        }
+        int standPat = evaluator.evaluate(board, color);
+        if (standPat >= beta || ply >= Scores.MAX_PLY - 1) {
+            return standPat;
+        }
+        if (standPat > alpha) {
+            alpha = standPat;
+        }
+
+        MoveList moves = moveLists[ply];
+        moves.clear();
+        board.generateMoves(color, moves);
+        keepCaptures(moves);
+        ordering.score(board, moves, SearchResult.NO_MOVE, ply);
+        for (int index = 0; index < moves.size(); index++) {
+            int move = ordering.next(moves, index, ply);
+            board.make(move);
+            if (board.isInCheck(color)) {
+                board.unmake();
+                continue;
+            }
+            int score = -quiescence(ply + 1, -beta, -alpha, color.switchColor());
+            board.unmake();
+            if (stopped) {
+                return Scores.DRAW;
+            }
+            if (score >= beta) {
+                return score;
+            }
+            if (score > alpha) {
+                alpha = score;
+            }
+        }
+        return alpha;
+    }
+
+    private static void keepCaptures(MoveList moves) {
+        int size = 0;
+        for (int index = 0; index < moves.size(); index++) {
+            if (PackedMove.has(moves.get(index), PackedMove.CAPTURE)) {
+                moves.set(size++, moves.get(index));
+            }
+        }
+        moves.truncate(size);
+    }
+
+    private boolean countNode() {
+        nodes++;
+        if ((nodes & (CHECK_INTERVAL - 1)) == 0 && limits.isExceeded(nodes, elapsedMillis())) {
+            stopped = true;
+        }
+        return stopped;
+    }
+
+    private boolean isRepetition(long key, int ply) {
+        for (int previous = ply - 2; previous >= 0; previous -= 2) {
+            if (pathKeys[previous] == key) {
+                return true;
+            }
+        }
+        return history.contains(key);
+    }
+
+    private static boolean isUsable(long entry, int ply, int alpha, int beta) {
+        int score = Scores.fromTable(TranspositionTable.score(entry), ply);
+        int bound = TranspositionTable.bound(entry);
+        return bound == TranspositionTable.EXACT
+                || bound == TranspositionTable.LOWER && score >= beta
+                || bound == TranspositionTable.UPPER && score <= alpha;
+    }
+
+    private static int bound(int score, int alpha, int beta) {
+        if (score >= beta) {
+            return TranspositionTable.LOWER;
+        }
+        if (score > alpha) {
+            return TranspositionTable.EXACT;
+        }
+        return TranspositionTable.UPPER;
+    }
+
+    private int noMoveScore(Color color, int ply) {
+        if (board.isInCheck(color)) {
+            return -Scores.MATE + ply;
+        }
+        return Scores.DRAW;
+    }
+
+    private SearchResult result(int bestMove, int score, int depth) {
+        return new SearchResult(bestMove, score, depth, nodes, System.nanoTime() - startNanos);
+    }
+
+    private long elapsedMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    @Override
+    public void stop() {
+        stopped = true;
+    }
+
+    public void clear() {
+        table.clear();
+    }
+}
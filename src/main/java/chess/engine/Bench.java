@@ -0,0 +1,70 @@
+package chess.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import chess.domain.ChessGame;
+import chess.domain.GameTurn;
+import chess.domain.board.FenBoardGenerator;
+
+/**
+ * 정해진 위치들을 정해진 깊이까지 한 스레드로 탐색해서 빌드와 기계를 비교한다.
+ * 위치마다 새 치환표로 시작하고 시간 한도가 없으므로, 같은 빌드라면 어느 기계에서든 노드 수가 같다.
+ * 그래서 노드 수로 만든 서명이 바뀌면 수 생성이나 탐색이 바뀐 것이고, 서명이 같은데 NPS 가 오르면 순수하게 빨라진 것이다.
+ */
+public final class Bench {
+    public static final int DEFAULT_DEPTH = 6;
+
+    private static final String ERROR_MESSAGE_DEPTH = "[ERROR] 벤치 깊이는 1 이상이어야 해~";
+    private static final long SIGNATURE_PRIME = 0x100_0000_01B3L;
+    private static final long SIGNATURE_OFFSET = 0xCBF2_9CE4_8422_2325L;
+    private static final List<String> POSITIONS = List.of(
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w",
+            "r1bqkb1r/pppp1ppp/2n2n2/4p3/2B1P3/5N2/PPPP1PPP/RNBQK2R w",
+            "r1bqkb1r/pp3ppp/2n1pn2/2pp4/3P4/2P1PN2/PP3PPP/RNBQKB1R w",
+            "r2q1rk1/pp2bppp/2n1bn2/3p4/3P4/2NBBN2/PP3PPP/R2Q1RK1 w",
+            "4rrk1/pp3ppp/2p5/8/3P4/2P2N2/PP3PPP/4RRK1 b",
+            "6k1/5ppp/8/8/8/8/1q3PPP/3R2K1 b",
+            "8/5pk1/6p1/8/3P4/6P1/5PK1/8 w",
+            "8/8/4k3/8/2R5/4K3/8/8 w");
+
+    private final AlphaBetaSearch search;
+
+    public Bench() {
+        this(new AlphaBetaSearch());
+    }
+
+    public Bench(AlphaBetaSearch search) {
+        this.search = search;
+    }
+
+    public BenchResult run(int depth) {
+        if (depth < 1) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_DEPTH);
+        }
+        List<SearchResult> results = new ArrayList<>();
+        for (String fen : POSITIONS) {
+            search.clear();
+            results.add(search.search(createGame(fen), SearchLimits.depth(depth)));
+        }
+        return new BenchResult(depth, results);
+    }
+
+    private static ChessGame createGame(String fen) {
+        FenBoardGenerator boardGenerator = new FenBoardGenerator(fen);
+        return new ChessGame(boardGenerator, GameTurn.from(boardGenerator.getTurn()));
+    }
+
+    static long signature(List<SearchResult> results) {
+        long signature = SIGNATURE_OFFSET;
+        for (SearchResult result : results) {
+            signature = (signature ^ result.getNodes()) * SIGNATURE_PRIME;
+            signature = (signature ^ result.getBestMove()) * SIGNATURE_PRIME;
+        }
+        return signature;
+    }
+
+    public static List<String> getPositions() {
+        return POSITIONS;
+    }
+}
@@ -0,0 +1,46 @@
+package chess.engine;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public final class BenchResult {
+    private final int depth;
+    private final List<SearchResult> results;
+
+    BenchResult(int depth, List<SearchResult> results) {
+        this.depth = depth;
+        this.results = results;
+    }
+
+    public long getNodes() {
+        return results.stream()
+                .mapToLong(SearchResult::getNodes)
+                .sum();
+    }
+
+    public long getNodesPerSecond() {
+        return getNodes() * TimeUnit.SECONDS.toNanos(1) / Math.max(elapsedNanos(), 1);
+    }
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos());
+    }
+
+    private long elapsedNanos() {
+        return results.stream()
+                .mapToLong(SearchResult::getElapsedNanos)
+                .sum();
+    }
+
+    public String getSignature() {
+        return Long.toHexString(Bench.signature(results));
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public List<SearchResult> getResults() {
+        return results;
+    }
+}
@@ -0,0 +1,30 @@
+package chess.engine;
+
+import chess.domain.ChessGame;
+
+/**
+ * 오프닝 북에 있는 위치는 탐색 없이 북의 수로 답하고, 없는 위치만 감싼 엔진에게 넘긴다.
+ */
+public final class BookEngine implements Engine {
+    private final OpeningBook book;
+    private final Engine engine;
+
+    public BookEngine(OpeningBook book, Engine engine) {
+        this.book = book;
+        this.engine = engine;
+    }
+
+    @Override
+    public SearchResult search(ChessGame chessGame, SearchLimits limits) {
+        int move = book.probe(chessGame.getZobristKey());
+        if (move != SearchResult.NO_MOVE && chessGame.validate(move).isLegal()) {
+            return new SearchResult(move, Scores.DRAW, 0, 0, 0);
+        }
+        return engine.search(chessGame, limits);
+    }
+
+    @Override
+    public void stop() {
+        engine.stop();
+    }
+}
@@ -0,0 +1,28 @@
+package chess.engine;
+
+import chess.domain.piece.PieceType;
+
+/**
+ * 테이블베이스를 만드는 재료 구성. 한쪽은 킹과 말 하나, 다른 쪽은 킹만 남은 끝내기다.
+ */
+public enum EndgameMaterial {
+    KQK(PieceType.QUEEN),
+    KRK(PieceType.ROOK),
+    KPK(PieceType.PAWN);
+
+    private static final String FILE_EXTENSION = ".tb";
+
+    private final PieceType extra;
+
+    EndgameMaterial(PieceType extra) {
+        this.extra = extra;
+    }
+
+    public String getFileName() {
+        return name().toLowerCase() + FILE_EXTENSION;
+    }
+
+    public PieceType getExtra() {
+        return extra;
+    }
+}
@@ -0,0 +1,81 @@
+package chess.engine;
+
+/**
+ * 테이블베이스가 알려주는 한 위치의 결과. 둘 차례인 쪽에서 본 승패와 메이트까지 남은 반수(ply)다.
+ * 한 바이트 코드로 저장하는데, 0 은 무승부, 양수는 그 반수 안에 이기고, 음수는 (-코드 - 1) 반수 뒤에 진다.
+ */
+public final class EndgameResult {
+    static final int DRAW = 0;
+    static final int UNKNOWN = Byte.MIN_VALUE;
+    static final int MAX_PLIES = Byte.MAX_VALUE - 1;
+
+    private static final EndgameResult[] RESULTS = new EndgameResult[1 << Byte.SIZE];
+
+    static {
+        for (int code = Byte.MIN_VALUE; code <= Byte.MAX_VALUE; code++) {
+            RESULTS[code - Byte.MIN_VALUE] = new EndgameResult(code);
+        }
+    }
+
+    private final int code;
+
+    private EndgameResult(int code) {
+        this.code = code;
+    }
+
+    static EndgameResult of(int code) {
+        return RESULTS[code - Byte.MIN_VALUE];
+    }
+
+    static EndgameResult unknown() {
+        return of(UNKNOWN);
+    }
+
+    static int winCode(int plies) {
+        return plies;
+    }
+
+    static int lossCode(int plies) {
+        return -plies - 1;
+    }
+
+    public boolean isKnown() {
+        return code != UNKNOWN;
+    }
+
+    public boolean isWin() {
+        return code > DRAW;
+    }
+
+    public boolean isDraw() {
+        return code == DRAW;
+    }
+
+    public boolean isLoss() {
+        return code < DRAW && isKnown();
+    }
+
+    public int getPlies() {
+        if (isWin()) {
+            return code;
+        }
+        if (isLoss()) {
+            return -code - 1;
+        }
+        return 0;
+    }
+
+    int toScore() {
+        if (isWin()) {
+            return Scores.MATE - getPlies();
+        }
+        if (isLoss()) {
+            return -Scores.MATE + getPlies();
+        }
+        return Scores.DRAW;
+    }
+
+    int getCode() {
+        return code;
+    }
+}
@@ -0,0 +1,131 @@
+package chess.engine;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import chess.domain.board.Board;
+import chess.domain.piece.Color;
+import chess.domain.position.Square;
+
+/**
+ * 재료 구성 하나의 모든 위치에 대한 결과를 한 바이트씩 담은 표.
+ * 강한 쪽을 백으로 맞춘 (둘 차례, 강한 킹, 약한 킹, 남은 말) 의 칸 번호로 자리를 바로 계산하므로 조회는 O(1) 이다.
+ * 강한 쪽이 흑이면 위아래를 뒤집어서 같은 표를 쓴다.
+ */
+public final class EndgameTable {
+    static final int SQUARES = 64;
+    static final int POSITIONS = 2 * SQUARES * SQUARES * SQUARES;
+
+    private static final String ERROR_MESSAGE_FORMAT = "[ERROR] 테이블베이스 파일의 형식이 맞지 않아~";
+    private static final int MAGIC = 0x4345_5442;
+    private static final int VERSION = 1;
+    private static final int WEAK_TO_MOVE = SQUARES * SQUARES * SQUARES;
+    private static final int FLIP = 56;
+    private static final int NOT_COVERED = -1;
+
+    private final EndgameMaterial material;
+    private final byte[] values;
+
+    EndgameTable(EndgameMaterial material, byte[] values) {
+        this.material = material;
+        this.values = values;
+    }
+
+    public static EndgameTable open(Path path) throws IOException {
+        try (InputStream input = Files.newInputStream(path)) {
+            return read(input);
+        }
+    }
+
+    public static EndgameTable read(InputStream input) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(input));
+        if (data.readInt() != MAGIC || data.readInt() != VERSION) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_FORMAT);
+        }
+        int ordinal = data.readInt();
+        if (ordinal < 0 || ordinal >= EndgameMaterial.values().length || data.readInt() != POSITIONS) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_FORMAT);
+        }
+        byte[] values = new byte[POSITIONS];
+        data.readFully(values);
+        return new EndgameTable(EndgameMaterial.values()[ordinal], values);
+    }
+
+    public void write(OutputStream output) throws IOException {
+        DataOutputStream data = new DataOutputStream(output);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(material.ordinal());
+        data.writeInt(POSITIONS);
+        data.write(values);
+        data.flush();
+    }
+
+    static int indexOf(boolean strongToMove, int strongKing, int weakKing, int extra) {
+        int index = (strongKing * SQUARES + weakKing) * SQUARES + extra;
+        if (strongToMove) {
+            return index;
+        }
+        return index + WEAK_TO_MOVE;
+    }
+
+    static boolean isStrongToMove(int index) {
+        return index < WEAK_TO_MOVE;
+    }
+
+    static int strongKingOf(int index) {
+        return index / (SQUARES * SQUARES) % SQUARES;
+    }
+
+    static int weakKingOf(int index) {
+        return index / SQUARES % SQUARES;
+    }
+
+    static int extraOf(int index) {
+        return index % SQUARES;
+    }
+
+    public EndgameResult probe(Board board, Color turn) {
+        int index = indexOf(board, turn);
+        if (index == NOT_COVERED) {
+            return EndgameResult.unknown();
+        }
+        return EndgameResult.of(values[index]);
+    }
+
+    private int indexOf(Board board, Color turn) {
+        List<Square> whites = board.getSquares(Color.WHITE);
+        List<Square> blacks = board.getSquares(Color.BLACK);
+        if (whites.size() == 2 && blacks.size() == 1) {
+            return indexOf(board, whites, blacks.get(0), turn == Color.WHITE, 0);
+        }
+        if (whites.size() == 1 && blacks.size() == 2) {
+            return indexOf(board, blacks, whites.get(0), turn == Color.BLACK, FLIP);
+        }
+        return NOT_COVERED;
+    }
+
+    private int indexOf(Board board, List<Square> strong, Square weakKing, boolean strongToMove, int flip) {
+        Square strongKing = strong.get(0);
+        Square extra = strong.get(1);
+        if (!board.getPiece(strongKing).isKing()) {
+            strongKing = strong.get(1);
+            extra = strong.get(0);
+        }
+        if (!board.getPiece(strongKing).isKing() || board.getPiece(extra).getType() != material.getExtra()) {
+            return NOT_COVERED;
+        }
+        return indexOf(strongToMove, strongKing.getIndex() ^ flip, weakKing.getIndex() ^ flip, extra.getIndex() ^ flip);
+    }
+
+    public EndgameMaterial getMaterial() {
+        return material;
+    }
+}
@@ -0,0 +1,286 @@
+package chess.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import chess.domain.board.BitboardGenerator;
+import chess.domain.board.Board;
+import chess.domain.move.MoveList;
+import chess.domain.move.PackedMove;
+import chess.domain.piece.Color;
+import chess.domain.piece.Piece;
+import chess.domain.piece.PieceType;
+import chess.domain.position.Square;
+
+/**
+ * 후퇴 분석으로 테이블베이스를 만든다.
+ * 먼저 모든 위치를 훑어 불가능한 위치, 메이트, 스테일메이트를 가르고 둘 수 있는 수의 개수를 센다.
+ * 그다음 메이트부터 한 반수씩 거슬러 올라가며, 지는 위치로 가는 수가 있으면 이기는 위치로,
+ * 모든 수가 이기는 위치로 가면 지는 위치로 정한다. 끝까지 정해지지 않은 위치는 무승부다.
+ * 각 단계의 위치들은 스레드들이 나누어 맡고, 결과와 남은 수의 개수는 원자적으로 바꾼다.
+ * 잡는 수는 재료 구성이 바뀌어 킹 둘만 남으므로 무승부로 이어지고, 되돌릴 때는 잡지 않는 수만 거슬러 간다.
+ */
+public final class EndgameTableGenerator {
+    private static final String ERROR_MESSAGE_THREADS = "[ERROR] 스레드 수는 1 이상이어야 해~";
+    private static final String ERROR_MESSAGE_DISTANCE = "[ERROR] 메이트까지의 거리가 테이블베이스에 담을 수 있는 범위를 넘었어~";
+    private static final int UNRESOLVED = Integer.MAX_VALUE;
+    private static final int RANK_SIZE = 8;
+    private static final int PAWN_START_RANK = 1;
+    private static final int PAWN_DOUBLE_STEP_RANK = 3;
+
+    private final ForkJoinPool pool;
+    private final int threads;
+
+    public EndgameTableGenerator(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_THREADS);
+        }
+        this.pool = new ForkJoinPool(threads);
+        this.threads = threads;
+    }
+
+    public EndgameTable generate(EndgameMaterial material) {
+        AtomicIntegerArray values = new AtomicIntegerArray(EndgameTable.POSITIONS);
+        AtomicIntegerArray remaining = new AtomicIntegerArray(EndgameTable.POSITIONS);
+        Positions frontier = classifyAll(material, values, remaining);
+        for (int plies = 0; frontier.size() > 0; plies++) {
+            if (plies >= EndgameResult.MAX_PLIES) {
+                throw new IllegalStateException(ERROR_MESSAGE_DISTANCE);
+            }
+            frontier = retreatAll(material, values, remaining, frontier, plies);
+        }
+        return new EndgameTable(material, toBytes(values));
+    }
+
+    private Positions classifyAll(EndgameMaterial material, AtomicIntegerArray values, AtomicIntegerArray remaining) {
+        List<ForkJoinTask<Positions>> tasks = new ArrayList<>();
+        for (int strongKing = 0; strongKing < EndgameTable.SQUARES; strongKing++) {
+            int king = strongKing;
+            tasks.add(pool.submit(() -> classify(material, king, values, remaining)));
+        }
+        return merge(tasks);
+    }
+
+    private static Positions classify(EndgameMaterial material, int strongKing, AtomicIntegerArray values,
+            AtomicIntegerArray remaining) {
+        Positions mated = new Positions();
+        MoveList moves = new MoveList();
+        for (int weakKing = 0; weakKing < EndgameTable.SQUARES; weakKing++) {
+            for (int extra = 0; extra < EndgameTable.SQUARES; extra++) {
+                int strongToMove = EndgameTable.indexOf(true, strongKing, weakKing, extra);
+                int weakToMove = EndgameTable.indexOf(false, strongKing, weakKing, extra);
+                if (!isPlaceable(material, strongKing, weakKing, extra)) {
+                    values.set(strongToMove, EndgameResult.UNKNOWN);
+                    values.set(weakToMove, EndgameResult.UNKNOWN);
+                    continue;
+                }
+                Board board = createBoard(material, strongKing, weakKing, extra);
+                classify(board, Color.WHITE, strongToMove, values, remaining, moves, mated);
+                classify(board, Color.BLACK, weakToMove, values, remaining, moves, mated);
+            }
+        }
+        return mated;
+    }
+
+    private static boolean isPlaceable(EndgameMaterial material, int strongKing, int weakKing, int extra) {
+        if (strongKing == weakKing || strongKing == extra || weakKing == extra) {
+            return false;
+        }
+        return material.getExtra() != PieceType.PAWN || extra / RANK_SIZE >= PAWN_START_RANK;
+    }
+
+    private static void classify(Board board, Color color, int index, AtomicIntegerArray values,
+            AtomicIntegerArray remaining, MoveList moves, Positions mated) {
+        if (board.isInCheck(color.switchColor())) {
+            values.set(index, EndgameResult.UNKNOWN);
+            return;
+        }
+        int legalMoves = countLegalMoves(board, color, moves);
+        if (legalMoves > 0) {
+            values.set(index, UNRESOLVED);
+            remaining.set(index, legalMoves);
+            return;
+        }
+        if (board.isInCheck(color)) {
+            values.set(index, EndgameResult.lossCode(0));
+            mated.add(index);
+            return;
+        }
+        values.set(index, EndgameResult.DRAW);
+    }
+
+    private static int countLegalMoves(Board board, Color color, MoveList moves) {
+        moves.clear();
+        board.generateMoves(color, moves);
+        int count = 0;
+        for (int index = 0; index < moves.size(); index++) {
+            board.make(moves.get(index));
+            if (!board.isInCheck(color)) {
+                count++;
+            }
+            board.unmake();
+        }
+        return count;
+    }
+
+    private Positions retreatAll(EndgameMaterial material, AtomicIntegerArray values, AtomicIntegerArray remaining,
+            Positions frontier, int plies) {
+        List<ForkJoinTask<Positions>> tasks = new ArrayList<>();
+        int chunk = (frontier.size() + threads - 1) / threads;
+        for (int from = 0; from < frontier.size(); from += chunk) {
+            int start = from;
+            int end = Math.min(from + chunk, frontier.size());
+            tasks.add(pool.submit(() -> retreat(material, values, remaining, frontier, start, end, plies)));
+        }
+        return merge(tasks);
+    }
+
+    private static Positions retreat(EndgameMaterial material, AtomicIntegerArray values,
+            AtomicIntegerArray remaining, Positions frontier, int start, int end, int plies) {
+        Positions next = new Positions();
+        MoveList moves = new MoveList();
+        for (int position = start; position < end; position++) {
+            int index = frontier.get(position);
+            boolean lost = values.get(index) < EndgameResult.DRAW;
+            for (int predecessor : predecessors(material, index, moves)) {
+                if (resolve(predecessor, lost, plies + 1, values, remaining)) {
+                    next.add(predecessor);
+                }
+            }
+        }
+        return next;
+    }
+
+    private static boolean resolve(int index, boolean childLost, int plies, AtomicIntegerArray values,
+            AtomicIntegerArray remaining) {
+        if (childLost) {
+            return values.compareAndSet(index, UNRESOLVED, EndgameResult.winCode(plies));
+        }
+        return values.get(index) == UNRESOLVED && remaining.decrementAndGet(index) == 0
+                && values.compareAndSet(index, UNRESOLVED, EndgameResult.lossCode(plies));
+    }
+
+    private static int[] predecessors(EndgameMaterial material, int index, MoveList moves) {
+        boolean strongToMove = EndgameTable.isStrongToMove(index);
+        int strongKing = EndgameTable.strongKingOf(index);
+        int weakKing = EndgameTable.weakKingOf(index);
+        int extra = EndgameTable.extraOf(index);
+        Board board = createBoard(material, strongKing, weakKing, extra);
+        Positions predecessors = new Positions();
+        moves.clear();
+        board.generateMoves(colorToMove(!strongToMove), moves);
+        for (int position = 0; position < moves.size(); position++) {
+            Square source = PackedMove.source(moves.get(position));
+            Square target = PackedMove.target(moves.get(position));
+            if (board.getPiece(target).isNone() && !board.getPiece(source).isPawn()) {
+                predecessors.add(retract(index, source.getIndex(), target.getIndex()));
+            }
+        }
+        if (!strongToMove && material.getExtra() == PieceType.PAWN) {
+            addPawnRetractions(board, index, extra, predecessors);
+        }
+        return predecessors.toArray();
+    }
+
+    private static void addPawnRetractions(Board board, int index, int pawn, Positions predecessors) {
+        int rank = pawn / RANK_SIZE;
+        if (rank <= PAWN_START_RANK || !isEmpty(board, pawn - RANK_SIZE)) {
+            return;
+        }
+        predecessors.add(retract(index, pawn, pawn - RANK_SIZE));
+        if (rank == PAWN_DOUBLE_STEP_RANK && isEmpty(board, pawn - 2 * RANK_SIZE)) {
+            predecessors.add(retract(index, pawn, pawn - 2 * RANK_SIZE));
+        }
+    }
+
+    private static boolean isEmpty(Board board, int square) {
+        return board.getPiece(Square.of(square)).isNone();
+    }
+
+    private static int retract(int index, int from, int to) {
+        return EndgameTable.indexOf(!EndgameTable.isStrongToMove(index),
+                moveBack(EndgameTable.strongKingOf(index), from, to),
+                moveBack(EndgameTable.weakKingOf(index), from, to),
+                moveBack(EndgameTable.extraOf(index), from, to));
+    }
+
+    private static int moveBack(int square, int from, int to) {
+        if (square == from) {
+            return to;
+        }
+        return square;
+    }
+
+    private static Color colorToMove(boolean strongToMove) {
+        if (strongToMove) {
+            return Color.WHITE;
+        }
+        return Color.BLACK;
+    }
+
+    static Board createBoard(EndgameMaterial material, int strongKing, int weakKing, int extra) {
+        Map<Square, Piece> pieces = new HashMap<>();
+        pieces.put(Square.of(strongKing), Piece.of(PieceType.KING, Color.WHITE));
+        pieces.put(Square.of(weakKing), Piece.of(PieceType.KING, Color.BLACK));
+        pieces.put(Square.of(extra), Piece.of(material.getExtra(), Color.WHITE));
+        return new Board(new BitboardGenerator(() -> pieces));
+    }
+
+    private static Positions merge(List<ForkJoinTask<Positions>> tasks) {
+        Positions merged = new Positions();
+        for (ForkJoinTask<Positions> task : tasks) {
+            merged.addAll(task.join());
+        }
+        return merged;
+    }
+
+    private static byte[] toBytes(AtomicIntegerArray values) {
+        byte[] bytes = new byte[values.length()];
+        for (int index = 0; index < bytes.length; index++) {
+            int value = values.get(index);
+            if (value == UNRESOLVED) {
+                value = EndgameResult.DRAW;
+            }
+            bytes[index] = (byte) value;
+        }
+        return bytes;
+    }
+
+    private static final class Positions {
+        private static final int DEFAULT_CAPACITY = 64;
+
+        private int[] indexes = new int[DEFAULT_CAPACITY];
+        private int size;
+
+        void add(int index) {
+            if (size == indexes.length) {
+                indexes = Arrays.copyOf(indexes, size * 2);
+            }
+            indexes[size++] = index;
+        }
+
+        void addAll(Positions other) {
+            for (int position = 0; position < other.size; position++) {
+                add(other.indexes[position]);
+            }
+        }
+
+        int get(int position) {
+            return indexes[position];
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(indexes, size);
+        }
+    }
+}
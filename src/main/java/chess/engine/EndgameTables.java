@@ -0,0 +1,51 @@
+package chess.engine;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import chess.domain.board.Board;
+import chess.domain.piece.Color;
+
+/**
+ * 불러온 테이블베이스들을 모아 두고, 위치의 재료 구성에 맞는 표에서 결과를 찾는다.
+ */
+public final class EndgameTables {
+    private final List<EndgameTable> tables;
+
+    private EndgameTables(List<EndgameTable> tables) {
+        this.tables = tables;
+    }
+
+    public static EndgameTables of(EndgameTable... tables) {
+        return new EndgameTables(Arrays.asList(tables));
+    }
+
+    public static EndgameTables load(Path directory) throws IOException {
+        List<EndgameTable> tables = new ArrayList<>();
+        for (EndgameMaterial material : EndgameMaterial.values()) {
+            Path path = directory.resolve(material.getFileName());
+            if (Files.exists(path)) {
+                tables.add(EndgameTable.open(path));
+            }
+        }
+        return new EndgameTables(tables);
+    }
+
+    public EndgameResult probe(Board board, Color turn) {
+        for (EndgameTable table : tables) {
+            EndgameResult result = table.probe(board, turn);
+            if (result.isKnown()) {
+                return result;
+            }
+        }
+        return EndgameResult.unknown();
+    }
+
+    public boolean isEmpty() {
+        return tables.isEmpty();
+    }
+}
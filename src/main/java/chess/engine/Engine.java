@@ -0,0 +1,10 @@
+package chess.engine;
+
+import chess.domain.ChessGame;
+
+public interface Engine {
+
+    SearchResult search(ChessGame chessGame, SearchLimits limits);
+
+    void stop();
+}
@@ -0,0 +1,12 @@
+package chess.engine;
+
+import chess.domain.board.Board;
+import chess.domain.piece.Color;
+
+public interface Evaluator {
+
+    int evaluate(Board board, Color color);
+
+    default void attach(Board board) {
+    }
+}
@@ -0,0 +1,68 @@
+package chess.engine;
+
+import chess.domain.piece.PieceType;
+
+/**
+ * 학습한 가중치가 생기기 전까지 내장 파일로 쓰는 손으로 짠 신경망.
+ * 은닉 0 은 기물 점수, 은닉 1 은 폰 전진과 나이트·비숍의 중앙 장악, 은닉 2~9 는 파일마다 폰이 둘 이상일 때만 켜지는 겹폰 감점이다.
+ * 나머지 은닉은 0 으로 비워 두었다.
+ */
+public final class HandcraftedNetwork {
+    public static final int HIDDEN_SIZE = 32;
+
+    private static final int MATERIAL = 0;
+    private static final int POSITION = 1;
+    private static final int DOUBLED_PAWNS = 2;
+    private static final int FILES = 8;
+    private static final int[] MATERIAL_UNITS = {0, 45, 25, 15, 13, 5};
+    private static final int MATERIAL_OUTPUT = 816;
+    private static final int POSITION_OUTPUT = 245;
+    private static final int PAWN_UNIT = 100;
+    private static final int DOUBLED_PAWN_OUTPUT = 41;
+    private static final int CENTER_DISTANCE_LIMIT = 3;
+
+    private HandcraftedNetwork() {
+    }
+
+    public static NetworkWeights create() {
+        short[] featureWeights = new short[NetworkWeights.INPUTS * HIDDEN_SIZE];
+        short[] hiddenBiases = new short[HIDDEN_SIZE];
+        short[] outputWeights = new short[2 * HIDDEN_SIZE];
+        for (PieceType type : PieceType.values()) {
+            if (type == PieceType.NONE) {
+                continue;
+            }
+            for (int square = 0; square < NetworkWeights.SQUARES; square++) {
+                int offset = (type.ordinal() * NetworkWeights.SQUARES + square) * HIDDEN_SIZE;
+                featureWeights[offset + MATERIAL] = (short) MATERIAL_UNITS[type.ordinal()];
+                featureWeights[offset + POSITION] = (short) position(type, square);
+                if (type == PieceType.PAWN) {
+                    featureWeights[offset + DOUBLED_PAWNS + square % FILES] = PAWN_UNIT;
+                }
+            }
+        }
+        for (int file = 0; file < FILES; file++) {
+            hiddenBiases[DOUBLED_PAWNS + file] = -PAWN_UNIT;
+            outputWeights[DOUBLED_PAWNS + file] = -DOUBLED_PAWN_OUTPUT;
+            outputWeights[HIDDEN_SIZE + DOUBLED_PAWNS + file] = DOUBLED_PAWN_OUTPUT;
+        }
+        outputWeights[MATERIAL] = MATERIAL_OUTPUT;
+        outputWeights[POSITION] = POSITION_OUTPUT;
+        outputWeights[HIDDEN_SIZE + MATERIAL] = -MATERIAL_OUTPUT;
+        outputWeights[HIDDEN_SIZE + POSITION] = -POSITION_OUTPUT;
+        return new NetworkWeights(HIDDEN_SIZE, featureWeights, hiddenBiases, outputWeights, 0);
+    }
+
+    private static int position(PieceType type, int square) {
+        int rank = square / FILES;
+        if (type == PieceType.PAWN) {
+            return Math.max(rank - 1, 0);
+        }
+        if (type == PieceType.KNIGHT || type == PieceType.BISHOP) {
+            int file = Math.abs(2 * (square % FILES) - 7);
+            int distance = Math.max(file, Math.abs(2 * rank - 7)) / 2;
+            return CENTER_DISTANCE_LIMIT - distance;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,129 @@
+package chess.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import chess.domain.ChessGame;
+
+/**
+ * Lazy SMP 병렬 탐색.
+ * 모든 스레드가 같은 위치를 각자 탐색하되 치환표 하나를 나눠 쓴다. 도우미 스레드는 시작 깊이와 루트 수의 순서를 달리해,
+ * 서로 다른 가지의 결과를 먼저 표에 채워 주고 주 스레드는 그 결과로 더 빨리 컷을 낸다.
+ */
+public final class LazySmpSearch implements Engine {
+    private static final String ERROR_MESSAGE_FINISHED = "[ERROR] 이미 끝난 게임이야~";
+    private static final String ERROR_MESSAGE_THREADS = "[ERROR] 스레드 수는 1 이상이어야 해~";
+
+    private final Supplier<Evaluator> evaluatorSupplier;
+    private final TranspositionTable table;
+    private final ExecutorService executor;
+    private final List<AlphaBetaSearch> searches;
+    private int threads;
+
+    public LazySmpSearch(int threads) {
+        this(threads, NeuralEvaluator::new, new TranspositionTable(AlphaBetaSearch.DEFAULT_HASH_MEGABYTES));
+    }
+
+    public LazySmpSearch(int threads, Supplier<Evaluator> evaluatorSupplier, TranspositionTable table) {
+        this.evaluatorSupplier = evaluatorSupplier;
+        this.table = table;
+        this.executor = Executors.newCachedThreadPool(LazySmpSearch::newDaemon);
+        this.searches = new ArrayList<>();
+        setThreads(threads);
+    }
+
+    private static Thread newDaemon(Runnable runnable) {
+        Thread thread = new Thread(runnable, "lazy-smp");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    public void setThreads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_THREADS);
+        }
+        this.threads = threads;
+        ensureSearches(threads);
+    }
+
+    private void ensureSearches(int threads) {
+        while (searches.size() < threads) {
+            searches.add(new AlphaBetaSearch(evaluatorSupplier.get(), table, searches.size()));
+        }
+    }
+
+    @Override
+    public SearchResult search(ChessGame chessGame, SearchLimits limits) {
+        return search(chessGame, limits, threads);
+    }
+
+    public SearchResult search(ChessGame chessGame, SearchLimits limits, int threads) {
+        if (chessGame.isFinished()) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_FINISHED);
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_THREADS);
+        }
+        ensureSearches(threads);
+        SearchLimits threadLimits = limits.divideNodes(threads);
+        long startNanos = System.nanoTime();
+        for (int index = 0; index < threads; index++) {
+            searches.get(index).prepare();
+        }
+        List<Future<SearchResult>> helpers = new ArrayList<>();
+        for (int index = 1; index < threads; index++) {
+            AlphaBetaSearch helper = searches.get(index);
+            helpers.add(executor.submit(() -> helper.run(chessGame, threadLimits)));
+        }
+        SearchResult best = searches.get(0).run(chessGame, threadLimits);
+        long nodes = best.getNodes();
+        for (int index = 1; index < threads; index++) {
+            searches.get(index).stop();
+        }
+        for (Future<SearchResult> helper : helpers) {
+            SearchResult result = join(helper);
+            nodes += result.getNodes();
+            best = deeper(best, result);
+        }
+        return new SearchResult(best.getBestMove(), best.getScore(), best.getDepth(), nodes,
+                System.nanoTime() - startNanos);
+    }
+
+    private static SearchResult join(Future<SearchResult> helper) {
+        try {
+            return helper.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static SearchResult deeper(SearchResult best, SearchResult result) {
+        if (result.getDepth() > best.getDepth() && result.hasBestMove()) {
+            return result;
+        }
+        return best;
+    }
+
+    @Override
+    public void stop() {
+        for (AlphaBetaSearch search : searches) {
+            search.stop();
+        }
+    }
+
+    public void clear() {
+        table.clear();
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+}
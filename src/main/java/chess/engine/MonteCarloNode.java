@@ -0,0 +1,158 @@
+package chess.engine;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import chess.domain.board.Board;
+import chess.domain.move.MoveList;
+import chess.domain.move.PackedMove;
+import chess.domain.piece.Color;
+
+/**
+ * MCTS 트리의 한 노드. 점수는 이 노드의 수를 둔 쪽에서 본 점수의 합이다.
+ * 킹을 잡으면 승(4), 잡히면 패(0)이고, 롤아웃이 한도에서 끝나면 기물이 앞서는지에 따라 3, 2, 1 을 준다.
+ * 킹을 잡을 수 있는 노드는 그 수만 자식으로 두어, 체크를 피하지 못한 수가 곧바로 진 수로 모이게 한다.
+ * 내려가는 스레드는 방문 수를 먼저 올려 두는데(가상 패배), 결과가 오기 전까지는 진 판으로 보이므로 다른 스레드는 다른 가지를 고른다.
+ */
+final class MonteCarloNode {
+    static final int WIN = 4;
+    static final int ADVANTAGE = 3;
+    static final int DRAW = 2;
+    static final int DISADVANTAGE = 1;
+    static final int LOSS = 0;
+
+    private static final int VIRTUAL_LOSS = 3;
+    private static final double EXPLORATION = 1.4;
+
+    private final int move;
+    private final MonteCarloNode parent;
+    private final boolean kingCapture;
+    private final AtomicInteger visits;
+    private final AtomicInteger points;
+    private volatile MonteCarloNode[] children;
+
+    private MonteCarloNode(int move, MonteCarloNode parent, boolean kingCapture) {
+        this.move = move;
+        this.parent = parent;
+        this.kingCapture = kingCapture;
+        this.visits = new AtomicInteger();
+        this.points = new AtomicInteger();
+    }
+
+    static MonteCarloNode root(MoveList moves) {
+        MonteCarloNode root = new MonteCarloNode(SearchResult.NO_MOVE, null, false);
+        MonteCarloNode[] children = new MonteCarloNode[moves.size()];
+        for (int index = 0; index < moves.size(); index++) {
+            children[index] = new MonteCarloNode(moves.get(index), root, false);
+        }
+        root.children = children;
+        return root;
+    }
+
+    boolean isExpanded() {
+        return children != null;
+    }
+
+    boolean isTerminal() {
+        return kingCapture || isExpanded() && children.length == 0;
+    }
+
+    int terminalResult() {
+        if (kingCapture) {
+            return WIN;
+        }
+        return DRAW;
+    }
+
+    synchronized void expand(Board board, Color color, MoveList moves) {
+        if (isExpanded()) {
+            return;
+        }
+        moves.clear();
+        board.generateMoves(color, moves);
+        if (board.isInCheck(color.switchColor())) {
+            keepKingCaptures(board, moves);
+        }
+        MonteCarloNode[] expanded = new MonteCarloNode[moves.size()];
+        for (int index = 0; index < moves.size(); index++) {
+            int child = moves.get(index);
+            expanded[index] = new MonteCarloNode(child, this, board.isTargetKing(PackedMove.target(child)));
+        }
+        children = expanded;
+    }
+
+    private static void keepKingCaptures(Board board, MoveList moves) {
+        int size = 0;
+        for (int index = 0; index < moves.size(); index++) {
+            if (board.isTargetKing(PackedMove.target(moves.get(index)))) {
+                moves.set(size++, moves.get(index));
+            }
+        }
+        moves.truncate(size);
+    }
+
+    MonteCarloNode select() {
+        MonteCarloNode[] candidates = children;
+        double logVisits = Math.log(Math.max(visits.get(), 1));
+        MonteCarloNode best = candidates[0];
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for (MonteCarloNode child : candidates) {
+            double value = child.uct(logVisits);
+            if (value > bestValue) {
+                bestValue = value;
+                best = child;
+            }
+        }
+        best.visits.addAndGet(VIRTUAL_LOSS);
+        return best;
+    }
+
+    private double uct(double logParentVisits) {
+        int childVisits = visits.get();
+        if (childVisits == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return winRate(childVisits) + EXPLORATION * Math.sqrt(logParentVisits / childVisits);
+    }
+
+    void backpropagate(int result) {
+        int nodeResult = result;
+        for (MonteCarloNode node = this; node != null; node = node.parent) {
+            node.visits.addAndGet(node.visitedCount());
+            node.points.addAndGet(nodeResult);
+            nodeResult = WIN - nodeResult;
+        }
+    }
+
+    private int visitedCount() {
+        if (parent == null) {
+            return 1;
+        }
+        return 1 - VIRTUAL_LOSS;
+    }
+
+    MonteCarloNode mostVisited() {
+        MonteCarloNode best = children[0];
+        for (MonteCarloNode child : children) {
+            if (child.visits.get() > best.visits.get()) {
+                best = child;
+            }
+        }
+        return best;
+    }
+
+    double winRate() {
+        return winRate(visits.get());
+    }
+
+    private double winRate(int visitCount) {
+        return points.get() / ((double) WIN * visitCount);
+    }
+
+    int getMove() {
+        return move;
+    }
+
+    int getVisits() {
+        return visits.get();
+    }
+}
@@ -0,0 +1,215 @@
+package chess.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import chess.domain.ChessGame;
+import chess.domain.board.Board;
+import chess.domain.move.MoveList;
+import chess.domain.move.PackedMove;
+import chess.domain.piece.Color;
+
+/**
+ * 병렬 몬테카를로 트리 탐색.
+ * 스레드마다 체스판 사본을 들고 같은 트리를 내려가며, 가상 패배 덕분에 서로 다른 가지로 흩어진다.
+ * 롤아웃은 스레드의 수 목록 하나를 계속 다시 쓰고 두었던 수를 무르며 돌아오므로, 한 판을 끝까지 두어도 새로 만드는 객체가 없다.
+ * 노드 한도는 플레이아웃 수로 센다.
+ */
+public final class MonteCarloSearch implements Engine {
+    private static final String ERROR_MESSAGE_FINISHED = "[ERROR] 이미 끝난 게임이야~";
+    private static final String ERROR_MESSAGE_THREADS = "[ERROR] 스레드 수는 1 이상이어야 해~";
+    private static final String ERROR_MESSAGE_BUDGET = "[ERROR] MCTS 는 시간이나 노드 한도를 정해줘야 해~";
+    private static final int ROLLOUT_PLIES = 80;
+    private static final double MATERIAL_MARGIN = 1.0;
+    private static final int CENTIPAWN_SCALE = 400;
+    private static final double WIN_RATE_LIMIT = 0.001;
+
+    private final ForkJoinPool pool;
+    private final int threads;
+    private final AtomicLong playouts;
+    private final AtomicInteger maxDepth;
+    private volatile boolean stopped;
+
+    public MonteCarloSearch(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_THREADS);
+        }
+        this.pool = new ForkJoinPool(threads);
+        this.threads = threads;
+        this.playouts = new AtomicLong();
+        this.maxDepth = new AtomicInteger();
+    }
+
+    @Override
+    public SearchResult search(ChessGame chessGame, SearchLimits limits) {
+        if (chessGame.isFinished()) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_FINISHED);
+        }
+        if (!limits.hasBudget()) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_BUDGET);
+        }
+        long startNanos = System.nanoTime();
+        stopped = false;
+        playouts.set(0);
+        maxDepth.set(0);
+
+        Board board = chessGame.getBoard().copy();
+        Color color = chessGame.getTurn().getColor();
+        MoveList rootMoves = RootMoves.legal(board, color);
+        if (rootMoves.isEmpty()) {
+            return new SearchResult(SearchResult.NO_MOVE, noMoveScore(board, color), 0, 0,
+                    System.nanoTime() - startNanos);
+        }
+        int kingCapture = RootMoves.findKingCapture(board, rootMoves, color);
+        if (kingCapture != SearchResult.NO_MOVE) {
+            return new SearchResult(kingCapture, Scores.MATE, 1, 0, System.nanoTime() - startNanos);
+        }
+
+        MonteCarloNode root = MonteCarloNode.root(rootMoves);
+        List<Callable<Void>> workers = new ArrayList<>();
+        for (int index = 0; index < threads; index++) {
+            workers.add(worker(chessGame, color, root, limits, startNanos));
+        }
+        pool.invokeAll(workers);
+        MonteCarloNode best = root.mostVisited();
+        return new SearchResult(best.getMove(), toCentipawns(best.winRate()), maxDepth.get(), playouts.get(),
+                System.nanoTime() - startNanos);
+    }
+
+    private Callable<Void> worker(ChessGame chessGame, Color color, MonteCarloNode root, SearchLimits limits,
+            long startNanos) {
+        return () -> {
+            Board board = chessGame.getBoard().copy();
+            MoveList moves = new MoveList();
+            SplittableRandom random = new SplittableRandom();
+            while (!stopped && !limits.isExceeded(playouts.get(), elapsedMillis(startNanos))) {
+                playout(board, color, root, moves, random);
+                playouts.incrementAndGet();
+            }
+            return null;
+        };
+    }
+
+    private void playout(Board board, Color color, MonteCarloNode root, MoveList moves, SplittableRandom random) {
+        MonteCarloNode node = root;
+        Color side = color;
+        int depth = 0;
+        while (node.isExpanded() && !node.isTerminal()) {
+            node = node.select();
+            board.make(node.getMove());
+            side = side.switchColor();
+            depth++;
+        }
+        if (!node.isTerminal()) {
+            node.expand(board, side, moves);
+        }
+        if (!node.isTerminal()) {
+            node = node.select();
+            board.make(node.getMove());
+            side = side.switchColor();
+            depth++;
+        }
+        node.backpropagate(simulate(node, board, side, moves, random));
+        for (int ply = 0; ply < depth; ply++) {
+            board.unmake();
+        }
+        maxDepth.accumulateAndGet(depth, Math::max);
+    }
+
+    private static int simulate(MonteCarloNode node, Board board, Color side, MoveList moves,
+            SplittableRandom random) {
+        if (node.isTerminal()) {
+            return node.terminalResult();
+        }
+        return rollout(board, side, moves, random);
+    }
+
+    private static int rollout(Board board, Color side, MoveList moves, SplittableRandom random) {
+        Color mover = side.switchColor();
+        int plies = 0;
+        while (plies < ROLLOUT_PLIES) {
+            moves.clear();
+            board.generateMoves(side, moves);
+            if (moves.isEmpty()) {
+                break;
+            }
+            int move = pick(board, side, moves, random);
+            boolean kingCapture = board.isTargetKing(PackedMove.target(move));
+            board.make(move);
+            plies++;
+            if (kingCapture) {
+                unmake(board, plies);
+                return resultFor(side, mover);
+            }
+            side = side.switchColor();
+        }
+        int result = materialResult(board, mover);
+        unmake(board, plies);
+        return result;
+    }
+
+    private static int pick(Board board, Color side, MoveList moves, SplittableRandom random) {
+        if (board.isInCheck(side.switchColor())) {
+            for (int index = 0; index < moves.size(); index++) {
+                if (board.isTargetKing(PackedMove.target(moves.get(index)))) {
+                    return moves.get(index);
+                }
+            }
+        }
+        return moves.get(random.nextInt(moves.size()));
+    }
+
+    private static int resultFor(Color winner, Color mover) {
+        if (winner == mover) {
+            return MonteCarloNode.WIN;
+        }
+        return MonteCarloNode.LOSS;
+    }
+
+    private static int materialResult(Board board, Color mover) {
+        double difference = board.getMaterialScore(mover) - board.getMaterialScore(mover.switchColor());
+        if (difference > MATERIAL_MARGIN) {
+            return MonteCarloNode.ADVANTAGE;
+        }
+        if (difference < -MATERIAL_MARGIN) {
+            return MonteCarloNode.DISADVANTAGE;
+        }
+        return MonteCarloNode.DRAW;
+    }
+
+    private static void unmake(Board board, int plies) {
+        for (int ply = 0; ply < plies; ply++) {
+            board.unmake();
+        }
+    }
+
+    private static int noMoveScore(Board board, Color color) {
+        if (board.isInCheck(color)) {
+            return -Scores.MATE;
+        }
+        return Scores.DRAW;
+    }
+
+    private static int toCentipawns(double winRate) {
+        double clamped = Math.min(Math.max(winRate, WIN_RATE_LIMIT), 1 - WIN_RATE_LIMIT);
+        return (int) Math.round(CENTIPAWN_SCALE * Math.log10(clamped / (1 - clamped)));
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    @Override
+    public void stop() {
+        stopped = true;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+}
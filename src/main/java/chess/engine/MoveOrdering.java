@@ -0,0 +1,117 @@
+package chess.engine;
+
+import java.util.Arrays;
+
+import chess.domain.board.Board;
+import chess.domain.move.MoveList;
+import chess.domain.move.PackedMove;
+import chess.domain.piece.PieceType;
+
+/**
+ * 치환표의 수, 잡는 수(MVV-LVA), 킬러 수, 히스토리 점수 순서로 수를 고른다.
+ * 전부 정렬하지 않고 필요한 만큼만 가장 좋은 수를 앞으로 끌어오므로, 컷이 일찍 나면 나머지는 보지 않는다.
+ */
+final class MoveOrdering {
+    private static final int TABLE_MOVE_SCORE = 1 << 30;
+    private static final int CAPTURE_SCORE = 1 << 28;
+    private static final int KILLER_SCORE = 1 << 27;
+    private static final int KILLER_COUNT = 2;
+    private static final int HISTORY_LIMIT = 1 << 26;
+    private static final int[] VICTIM_VALUES = {10_000, 900, 500, 300, 300, 100, 0};
+    private static final int[] ATTACKER_VALUES = {6, 5, 4, 3, 2, 1, 0};
+    private static final int SQUARE_COUNT = 64;
+    private static final int SCORE_CAPACITY = 128;
+
+    private final int[][] scores;
+    private final int[][] killers;
+    private final int[][] history;
+
+    MoveOrdering() {
+        this.scores = new int[Scores.MAX_PLY][];
+        this.killers = new int[Scores.MAX_PLY][KILLER_COUNT];
+        this.history = new int[SQUARE_COUNT][SQUARE_COUNT];
+    }
+
+    void clear() {
+        for (int[] killer : killers) {
+            Arrays.fill(killer, SearchResult.NO_MOVE);
+        }
+        for (int[] row : history) {
+            Arrays.fill(row, 0);
+        }
+    }
+
+    void score(Board board, MoveList moves, int tableMove, int ply) {
+        int[] plyScores = scoresOf(moves.size(), ply);
+        for (int index = 0; index < moves.size(); index++) {
+            plyScores[index] = score(board, moves.get(index), tableMove, ply);
+        }
+    }
+
+    private int score(Board board, int move, int tableMove, int ply) {
+        if (move == tableMove) {
+            return TABLE_MOVE_SCORE;
+        }
+        if (PackedMove.has(move, PackedMove.CAPTURE)) {
+            return CAPTURE_SCORE + captureValue(board, move);
+        }
+        if (move == killers[ply][0] || move == killers[ply][1]) {
+            return KILLER_SCORE;
+        }
+        return history[source(move)][target(move)];
+    }
+
+    private static int captureValue(Board board, int move) {
+        PieceType victim = board.getPiece(PackedMove.target(move)).getType();
+        PieceType attacker = board.getPiece(PackedMove.source(move)).getType();
+        return VICTIM_VALUES[victim.ordinal()] * ATTACKER_VALUES.length - ATTACKER_VALUES[attacker.ordinal()];
+    }
+
+    private int[] scoresOf(int size, int ply) {
+        if (scores[ply] == null || scores[ply].length < size) {
+            scores[ply] = new int[Math.max(size, SCORE_CAPACITY)];
+        }
+        return scores[ply];
+    }
+
+    int next(MoveList moves, int index, int ply) {
+        int[] plyScores = scores[ply];
+        int best = index;
+        for (int candidate = index + 1; candidate < moves.size(); candidate++) {
+            if (plyScores[candidate] > plyScores[best]) {
+                best = candidate;
+            }
+        }
+        swap(moves, plyScores, index, best);
+        return moves.get(index);
+    }
+
+    private static void swap(MoveList moves, int[] plyScores, int index, int best) {
+        int move = moves.get(index);
+        moves.set(index, moves.get(best));
+        moves.set(best, move);
+        int score = plyScores[index];
+        plyScores[index] = plyScores[best];
+        plyScores[best] = score;
+    }
+
+    void addCutoff(int move, int depth, int ply) {
+        if (PackedMove.has(move, PackedMove.CAPTURE)) {
+            return;
+        }
+        if (killers[ply][0] != move) {
+            killers[ply][1] = killers[ply][0];
+            killers[ply][0] = move;
+        }
+        history[source(move)][target(move)] = Math.min(history[source(move)][target(move)] + depth * depth,
+                HISTORY_LIMIT);
+    }
+
+    private static int source(int move) {
+        return PackedMove.source(move).getIndex();
+    }
+
+    private static int target(int move) {
+        return PackedMove.target(move).getIndex();
+    }
+}
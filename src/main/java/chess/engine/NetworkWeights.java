@@ -0,0 +1,129 @@
+package chess.engine;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import chess.domain.piece.PieceType;
+
+/**
+ * 신경망 평가 함수의 int16 가중치.
+ * 입력은 관점(자기 편·상대 편) x 말 종류 x 칸의 원-핫 특징이고, 은닉층은 관점마다 하나씩 누산기로 유지한다.
+ * 파일은 매직 수, 버전, 입력 수, 은닉 수 뒤에 특징 가중치, 은닉 편향, 출력 가중치(둘 째 관점 포함)와 int32 출력 편향을 빅 엔디언으로 적는다.
+ */
+public final class NetworkWeights {
+    public static final String RESOURCE = "/engine/network.bin";
+
+    static final int PIECE_TYPES = PieceType.values().length - 1;
+    static final int SQUARES = 64;
+    static final int INPUTS = 2 * PIECE_TYPES * SQUARES;
+    static final int ACTIVATION_LIMIT = 255;
+    static final int OUTPUT_QUANTIZATION = 64;
+    static final int OUTPUT_SCALE = 400;
+
+    private static final String ERROR_MESSAGE_FORMAT = "[ERROR] 신경망 가중치 파일의 형식이 맞지 않아~";
+    private static final String ERROR_MESSAGE_RESOURCE = "[ERROR] 내장된 신경망 가중치 파일을 찾을 수 없어~";
+    private static final int MAGIC = 0x434E_5545;
+    private static final int VERSION = 1;
+
+    private static NetworkWeights bundled;
+
+    private final int hiddenSize;
+    private final short[] featureWeights;
+    private final short[] hiddenBiases;
+    private final short[] outputWeights;
+    private final int outputBias;
+
+    NetworkWeights(int hiddenSize, short[] featureWeights, short[] hiddenBiases, short[] outputWeights,
+            int outputBias) {
+        this.hiddenSize = hiddenSize;
+        this.featureWeights = featureWeights;
+        this.hiddenBiases = hiddenBiases;
+        this.outputWeights = outputWeights;
+        this.outputBias = outputBias;
+    }
+
+    public static synchronized NetworkWeights bundled() {
+        if (bundled == null) {
+            bundled = loadResource();
+        }
+        return bundled;
+    }
+
+    private static NetworkWeights loadResource() {
+        try (InputStream input = NetworkWeights.class.getResourceAsStream(RESOURCE)) {
+            if (input == null) {
+                throw new IllegalStateException(ERROR_MESSAGE_RESOURCE);
+            }
+            return read(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static NetworkWeights read(InputStream input) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(input));
+        if (data.readInt() != MAGIC || data.readInt() != VERSION || data.readInt() != INPUTS) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_FORMAT);
+        }
+        int hiddenSize = data.readInt();
+        if (hiddenSize <= 0) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_FORMAT);
+        }
+        short[] featureWeights = readShorts(data, INPUTS * hiddenSize);
+        short[] hiddenBiases = readShorts(data, hiddenSize);
+        short[] outputWeights = readShorts(data, 2 * hiddenSize);
+        return new NetworkWeights(hiddenSize, featureWeights, hiddenBiases, outputWeights, data.readInt());
+    }
+
+    private static short[] readShorts(DataInputStream data, int length) throws IOException {
+        short[] values = new short[length];
+        for (int index = 0; index < length; index++) {
+            values[index] = data.readShort();
+        }
+        return values;
+    }
+
+    public void write(OutputStream output) throws IOException {
+        DataOutputStream data = new DataOutputStream(output);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(INPUTS);
+        data.writeInt(hiddenSize);
+        writeShorts(data, featureWeights);
+        writeShorts(data, hiddenBiases);
+        writeShorts(data, outputWeights);
+        data.writeInt(outputBias);
+        data.flush();
+    }
+
+    private static void writeShorts(DataOutputStream data, short[] values) throws IOException {
+        for (short value : values) {
+            data.writeShort(value);
+        }
+    }
+
+    int getHiddenSize() {
+        return hiddenSize;
+    }
+
+    short[] getFeatureWeights() {
+        return featureWeights;
+    }
+
+    short[] getHiddenBiases() {
+        return hiddenBiases;
+    }
+
+    short[] getOutputWeights() {
+        return outputWeights;
+    }
+
+    int getOutputBias() {
+        return outputBias;
+    }
+}
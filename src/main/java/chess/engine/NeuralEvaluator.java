@@ -0,0 +1,105 @@
+package chess.engine;
+
+import chess.domain.board.Board;
+import chess.domain.board.PlacementListener;
+import chess.domain.piece.Color;
+import chess.domain.piece.Piece;
+import chess.domain.position.Square;
+
+/**
+ * 효율적으로 갱신되는 신경망(NNUE 방식) 평가 함수.
+ * 붙은 체스판에서 말이 놓이고 빠질 때마다 두 관점의 누산기에 해당 특징의 가중치 열만 더하거나 빼므로,
+ * 수를 두고 무를 때 드는 비용은 은닉 수 x 바뀐 말 수에 그친다. 평가는 누산기를 0~255 로 자른 뒤 출력 가중치와 곱해 더한다.
+ * 그래서 평가하는 체스판은 attach 로 붙여 둔 체스판이어야 한다.
+ */
+public final class NeuralEvaluator implements Evaluator, PlacementListener {
+    private static final int COLOR_COUNT = 2;
+    private static final int FLIP_RANKS = 56;
+    private static final Color[] PERSPECTIVES = {Color.WHITE, Color.BLACK};
+
+    private final NetworkWeights weights;
+    private final int hiddenSize;
+    private final short[][] accumulators;
+
+    public NeuralEvaluator() {
+        this(NetworkWeights.bundled());
+    }
+
+    public NeuralEvaluator(NetworkWeights weights) {
+        this.weights = weights;
+        this.hiddenSize = weights.getHiddenSize();
+        this.accumulators = new short[COLOR_COUNT][hiddenSize];
+    }
+
+    @Override
+    public void attach(Board board) {
+        refresh(board);
+        board.addListener(this);
+    }
+
+    public void refresh(Board board) {
+        for (short[] accumulator : accumulators) {
+            System.arraycopy(weights.getHiddenBiases(), 0, accumulator, 0, hiddenSize);
+        }
+        for (Color color : PERSPECTIVES) {
+            for (Square square : board.getSquares(color)) {
+                placed(board.getPiece(square), square);
+            }
+        }
+    }
+
+    @Override
+    public void placed(Piece piece, Square square) {
+        update(piece, square, 1);
+    }
+
+    @Override
+    public void removed(Piece piece, Square square) {
+        update(piece, square, -1);
+    }
+
+    private void update(Piece piece, Square square, int sign) {
+        if (piece == null || piece.isNone()) {
+            return;
+        }
+        short[] featureWeights = weights.getFeatureWeights();
+        for (Color perspective : PERSPECTIVES) {
+            short[] accumulator = accumulators[perspective.ordinal()];
+            int offset = feature(perspective, piece, square) * hiddenSize;
+            for (int index = 0; index < hiddenSize; index++) {
+                accumulator[index] += sign * featureWeights[offset + index];
+            }
+        }
+    }
+
+    private static int feature(Color perspective, Piece piece, Square square) {
+        int side = 1;
+        if (piece.isSameColor(perspective)) {
+            side = 0;
+        }
+        int index = square.getIndex();
+        if (perspective == Color.BLACK) {
+            index ^= FLIP_RANKS;
+        }
+        return (side * NetworkWeights.PIECE_TYPES + piece.getType().ordinal()) * NetworkWeights.SQUARES + index;
+    }
+
+    @Override
+    public int evaluate(Board board, Color color) {
+        short[] outputWeights = weights.getOutputWeights();
+        long sum = weights.getOutputBias();
+        sum += activate(accumulators[color.ordinal()], outputWeights, 0);
+        sum += activate(accumulators[color.switchColor().ordinal()], outputWeights, hiddenSize);
+        return (int) (sum * NetworkWeights.OUTPUT_SCALE
+                / (NetworkWeights.ACTIVATION_LIMIT * NetworkWeights.OUTPUT_QUANTIZATION));
+    }
+
+    private int activate(short[] accumulator, short[] outputWeights, int offset) {
+        int sum = 0;
+        for (int index = 0; index < hiddenSize; index++) {
+            int activation = Math.min(Math.max(accumulator[index], 0), NetworkWeights.ACTIVATION_LIMIT);
+            sum += activation * outputWeights[offset + index];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,115 @@
+package chess.engine;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+
+/**
+ * 메모리에 매핑한 오프닝 북.
+ * 파일은 (위치 키, 수, 가중치) 항목을 키 오름차순, 같은 키 안에서는 가중치 내림차순으로 담고 있어서,
+ * 힙에 색인을 만들지 않고 매핑한 버퍼 위에서 바로 이진 탐색한다.
+ */
+public final class OpeningBook {
+    static final int MAGIC = 0x4342_4F4B;
+    static final int VERSION = 1;
+    static final int ENTRY_BYTES = Long.BYTES + Integer.BYTES * 2;
+    static final int HEADER_BYTES = ENTRY_BYTES;
+
+    private static final String ERROR_MESSAGE_FORMAT = "[ERROR] 오프닝 북 파일의 형식이 맞지 않아~";
+    private static final int MOVE_OFFSET = Long.BYTES;
+    private static final int WEIGHT_OFFSET = Long.BYTES + Integer.BYTES;
+
+    private final MappedByteBuffer buffer;
+    private final long size;
+
+    private OpeningBook(MappedByteBuffer buffer, long size) {
+        this.buffer = buffer;
+        this.size = size;
+    }
+
+    public static OpeningBook open(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new OpeningBook(buffer, checkHeader(buffer, channel.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long checkHeader(MappedByteBuffer buffer, long fileSize) {
+        if (fileSize < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != VERSION) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_FORMAT);
+        }
+        long size = buffer.getLong(Integer.BYTES * 2);
+        if (HEADER_BYTES + size * ENTRY_BYTES != fileSize) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_FORMAT);
+        }
+        return size;
+    }
+
+    public int probe(long key) {
+        long first = lowerBound(key);
+        if (first == size || keyAt(first) != key) {
+            return SearchResult.NO_MOVE;
+        }
+        return moveAt(first);
+    }
+
+    public int probe(long key, SplittableRandom random) {
+        long first = lowerBound(key);
+        long total = 0;
+        long last = first;
+        for (; last < size && keyAt(last) == key; last++) {
+            total += weightAt(last);
+        }
+        if (total == 0) {
+            return SearchResult.NO_MOVE;
+        }
+        long pick = random.nextLong(total);
+        for (long index = first; index < last; index++) {
+            pick -= weightAt(index);
+            if (pick < 0) {
+                return moveAt(index);
+            }
+        }
+        return moveAt(first);
+    }
+
+    private long lowerBound(long key) {
+        long low = 0;
+        long high = size;
+        while (low < high) {
+            long middle = (low + high) >>> 1;
+            if (keyAt(middle) < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private long keyAt(long index) {
+        return buffer.getLong(offset(index));
+    }
+
+    private int moveAt(long index) {
+        return buffer.getInt(offset(index) + MOVE_OFFSET);
+    }
+
+    private int weightAt(long index) {
+        return buffer.getInt(offset(index) + WEIGHT_OFFSET);
+    }
+
+    private static int offset(long index) {
+        return Math.toIntExact(HEADER_BYTES + index * ENTRY_BYTES);
+    }
+
+    public long size() {
+        return size;
+    }
+}
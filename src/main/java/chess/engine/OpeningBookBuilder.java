@@ -0,0 +1,95 @@
+package chess.engine;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import chess.domain.ChessGame;
+import chess.domain.GameTurn;
+import chess.domain.board.InitialBoardGenerator;
+import chess.domain.move.PackedMove;
+
+/**
+ * 저장된 게임들을 처음부터 다시 두면서, 앞쪽 수마다 (두기 전 위치 키, 수) 가 나온 횟수를 가중치로 모아 북 파일을 만든다.
+ * 게임 한 판은 e2e4 처럼 적은 수를 공백으로 이은 한 줄이다.
+ */
+public final class OpeningBookBuilder {
+    private static final String SEPARATOR = "\\s+";
+
+    private final int maxPlies;
+    private final Map<Long, Map<Integer, Integer>> counts;
+
+    public OpeningBookBuilder(int maxPlies) {
+        this.maxPlies = maxPlies;
+        this.counts = new HashMap<>();
+    }
+
+    public OpeningBookBuilder addGames(List<String> games) {
+        games.stream()
+                .map(String::trim)
+                .filter(game -> !game.isEmpty())
+                .forEach(this::addGame);
+        return this;
+    }
+
+    public OpeningBookBuilder addGame(String game) {
+        ChessGame chessGame = new ChessGame(new InitialBoardGenerator(), GameTurn.WHITE);
+        String[] moves = game.trim().split(SEPARATOR);
+        for (int ply = 0; ply < Math.min(moves.length, maxPlies) && !chessGame.isFinished(); ply++) {
+            int move = PackedMove.parse(moves[ply]);
+            long key = chessGame.getZobristKey();
+            chessGame.move(move);
+            counts.computeIfAbsent(key, ignored -> new HashMap<>()).merge(move, 1, Integer::sum);
+        }
+        return this;
+    }
+
+    public void write(Path path) throws IOException {
+        try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(path))) {
+            write(output);
+        }
+    }
+
+    public void write(OutputStream output) throws IOException {
+        List<Entry> entries = sortedEntries();
+        DataOutputStream data = new DataOutputStream(output);
+        data.writeInt(OpeningBook.MAGIC);
+        data.writeInt(OpeningBook.VERSION);
+        data.writeLong(entries.size());
+        for (Entry entry : entries) {
+            data.writeLong(entry.key);
+            data.writeInt(entry.move);
+            data.writeInt(entry.weight);
+        }
+        data.flush();
+    }
+
+    private List<Entry> sortedEntries() {
+        List<Entry> entries = new ArrayList<>();
+        counts.forEach((key, moves) -> moves.forEach((move, weight) -> entries.add(new Entry(key, move, weight))));
+        entries.sort(Comparator.comparingLong((Entry entry) -> entry.key)
+                .thenComparing(Comparator.comparingInt((Entry entry) -> entry.weight).reversed())
+                .thenComparingInt(entry -> entry.move));
+        return entries;
+    }
+
+    private static final class Entry {
+        private final long key;
+        private final int move;
+        private final int weight;
+
+        private Entry(long key, int move, int weight) {
+            this.key = key;
+            this.move = move;
+            this.weight = weight;
+        }
+    }
+}
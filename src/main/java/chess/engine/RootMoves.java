@@ -0,0 +1,44 @@
+package chess.engine;
+
+import chess.domain.board.Board;
+import chess.domain.move.MoveList;
+import chess.domain.move.PackedMove;
+import chess.domain.piece.Color;
+
+/**
+ * 루트에서 둘 수 있는 수를 고른다.
+ * 두고 나서 자기 킹이 공격받는 수는 빼지만, 상대 킹을 잡는 수는 그 자체로 게임이 끝나므로 남긴다.
+ */
+final class RootMoves {
+
+    private RootMoves() {
+    }
+
+    static MoveList legal(Board board, Color color) {
+        MoveList moves = board.generateMoves(color);
+        MoveList legalMoves = new MoveList(moves.size());
+        for (int index = 0; index < moves.size(); index++) {
+            int move = moves.get(index);
+            boolean kingCapture = board.isTargetKing(PackedMove.target(move));
+            board.make(move);
+            boolean legal = kingCapture || !board.isInCheck(color);
+            board.unmake();
+            if (legal) {
+                legalMoves.add(move);
+            }
+        }
+        return legalMoves;
+    }
+
+    static int findKingCapture(Board board, MoveList moves, Color color) {
+        if (!board.isInCheck(color.switchColor())) {
+            return SearchResult.NO_MOVE;
+        }
+        for (int index = 0; index < moves.size(); index++) {
+            if (board.isTargetKing(PackedMove.target(moves.get(index)))) {
+                return moves.get(index);
+            }
+        }
+        return SearchResult.NO_MOVE;
+    }
+}
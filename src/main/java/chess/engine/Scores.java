@@ -0,0 +1,38 @@
+package chess.engine;
+
+/**
+ * 탐색 점수는 센티폰 단위이고, 메이트는 가까울수록 절댓값이 큰 점수로 나타낸다.
+ */
+final class Scores {
+    static final int DRAW = 0;
+    static final int MATE = 30_000;
+    static final int INFINITE = 32_000;
+    static final int MAX_PLY = 128;
+
+    private Scores() {
+    }
+
+    static boolean isMate(int score) {
+        return Math.abs(score) >= MATE - MAX_PLY;
+    }
+
+    static int toTable(int score, int ply) {
+        if (score >= MATE - MAX_PLY) {
+            return score + ply;
+        }
+        if (score <= -MATE + MAX_PLY) {
+            return score - ply;
+        }
+        return score;
+    }
+
+    static int fromTable(int score, int ply) {
+        if (score >= MATE - MAX_PLY) {
+            return score - ply;
+        }
+        if (score <= -MATE + MAX_PLY) {
+            return score + ply;
+        }
+        return score;
+    }
+}
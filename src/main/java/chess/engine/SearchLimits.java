@@ -0,0 +1,68 @@
+package chess.engine;
+
+public final class SearchLimits {
+    public static final int MAX_DEPTH = 64;
+
+    private static final String ERROR_MESSAGE_LIMIT = "[ERROR] 탐색 한도는 양수로 정해줘~";
+    private static final long UNLIMITED = Long.MAX_VALUE;
+
+    private final int depth;
+    private final long millis;
+    private final long nodes;
+
+    private SearchLimits(int depth, long millis, long nodes) {
+        if (depth <= 0 || millis <= 0 || nodes <= 0) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_LIMIT);
+        }
+        this.depth = Math.min(depth, MAX_DEPTH);
+        this.millis = millis;
+        this.nodes = nodes;
+    }
+
+    public static SearchLimits of(int depth, long millis, long nodes) {
+        return new SearchLimits(depth, millis, nodes);
+    }
+
+    public static SearchLimits depth(int depth) {
+        return new SearchLimits(depth, UNLIMITED, UNLIMITED);
+    }
+
+    public static SearchLimits time(long millis) {
+        return new SearchLimits(MAX_DEPTH, millis, UNLIMITED);
+    }
+
+    public static SearchLimits nodes(long nodes) {
+        return new SearchLimits(MAX_DEPTH, UNLIMITED, nodes);
+    }
+
+    SearchLimits divideNodes(int threads) {
+        if (nodes == UNLIMITED) {
+            return this;
+        }
+        return new SearchLimits(depth, millis, Math.max(nodes / threads, 1));
+    }
+
+    boolean isExceeded(long searchedNodes, long elapsedMillis) {
+        return searchedNodes >= nodes || elapsedMillis >= millis;
+    }
+
+    public boolean hasBudget() {
+        return millis != UNLIMITED || nodes != UNLIMITED;
+    }
+
+    boolean hasTimeForNextDepth(long elapsedMillis) {
+        return elapsedMillis < millis / 2;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getMillis() {
+        return millis;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+}
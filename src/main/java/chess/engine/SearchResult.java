@@ -0,0 +1,67 @@
+package chess.engine;
+
+import java.util.concurrent.TimeUnit;
+
+import chess.domain.move.PackedMove;
+
+public final class SearchResult {
+    public static final int NO_MOVE = 0;
+
+    private final int bestMove;
+    private final int score;
+    private final int depth;
+    private final long nodes;
+    private final long elapsedNanos;
+
+    SearchResult(int bestMove, int score, int depth, long nodes, long elapsedNanos) {
+        this.bestMove = bestMove;
+        this.score = score;
+        this.depth = depth;
+        this.nodes = nodes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public boolean hasBestMove() {
+        return bestMove != NO_MOVE;
+    }
+
+    public long getNodesPerSecond() {
+        return nodes * TimeUnit.SECONDS.toNanos(1) / Math.max(elapsedNanos, 1);
+    }
+
+    public int getBestMove() {
+        return bestMove;
+    }
+
+    public String getBestMoveNotation() {
+        return PackedMove.toNotation(bestMove);
+    }
+
+    public boolean isMate() {
+        return Scores.isMate(score);
+    }
+
+    public int getMatePlies() {
+        return Scores.MATE - Math.abs(score);
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    long getElapsedNanos() {
+        return elapsedNanos;
+    }
+}
@@ -0,0 +1,87 @@
+package chess.engine;
+
+import chess.domain.GameResult;
+import chess.domain.board.Board;
+import chess.domain.board.PawnHashTable;
+import chess.domain.board.PawnStructure;
+import chess.domain.piece.Color;
+import chess.domain.piece.Piece;
+import chess.domain.piece.PieceType;
+import chess.domain.position.Square;
+
+/**
+ * 점수 계산(status)과 같은 기물 점수에, 폰의 전진과 나이트·비숍의 중앙 장악을 조금 더해 평가한다.
+ * 폰 구조는 평가 함수마다 가진 폰 해시 표에서 한 번만 꺼내, 겹친 폰·고립된 폰·통과한 폰에 함께 쓴다.
+ */
+public final class SimpleEvaluator implements Evaluator {
+    private static final int CENTIPAWNS = 100;
+    private static final int PAWN_ADVANCE_BONUS = 6;
+    private static final int CENTER_BONUS = 8;
+    private static final int CENTER_DISTANCE_LIMIT = 3;
+    private static final int WHITE_START_ROW = 2;
+    private static final int BLACK_START_ROW = 7;
+    private static final int ISOLATED_PENALTY = 12;
+    private static final int PASSED_BONUS = 20;
+
+    private final PawnHashTable pawnTable;
+
+    public SimpleEvaluator() {
+        this(new PawnHashTable());
+    }
+
+    public SimpleEvaluator(PawnHashTable pawnTable) {
+        this.pawnTable = pawnTable;
+    }
+
+    @Override
+    public int evaluate(Board board, Color color) {
+        Color opponent = color.switchColor();
+        PawnStructure pawnStructure = pawnTable.probe(board);
+        double material = GameResult.calculateScore(board, pawnStructure, color)
+                - GameResult.calculateScore(board, pawnStructure, opponent);
+        return (int) Math.round(material * CENTIPAWNS) + position(board, color) - position(board, opponent)
+                + structure(pawnStructure, color) - structure(pawnStructure, opponent);
+    }
+
+    private static int structure(PawnStructure pawnStructure, Color color) {
+        return pawnStructure.getPassedPawns(color) * PASSED_BONUS
+                - pawnStructure.getIsolatedPawns(color) * ISOLATED_PENALTY;
+    }
+
+    private static int position(Board board, Color color) {
+        int bonus = 0;
+        for (Square square : board.getSquares(color)) {
+            bonus += position(board.getPiece(square), square, color);
+        }
+        return bonus;
+    }
+
+    private static int position(Piece piece, Square square, Color color) {
+        PieceType type = piece.getType();
+        if (type == PieceType.PAWN) {
+            return advance(square, color) * PAWN_ADVANCE_BONUS;
+        }
+        if (type == PieceType.KNIGHT || type == PieceType.BISHOP) {
+            return (CENTER_DISTANCE_LIMIT - centerDistance(square)) * CENTER_BONUS;
+        }
+        return 0;
+    }
+
+    private static int advance(Square square, Color color) {
+        int row = square.getRow().getIndex();
+        if (color == Color.WHITE) {
+            return row - WHITE_START_ROW;
+        }
+        return BLACK_START_ROW - row;
+    }
+
+    public PawnHashTable getPawnTable() {
+        return pawnTable;
+    }
+
+    private static int centerDistance(Square square) {
+        int file = Math.abs(2 * square.getColumn().getIndex() - 9);
+        int rank = Math.abs(2 * square.getRow().getIndex() - 9);
+        return Math.max(file, rank) / 2;
+    }
+}
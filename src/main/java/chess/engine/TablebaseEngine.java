@@ -0,0 +1,61 @@
+package chess.engine;
+
+import chess.domain.ChessGame;
+import chess.domain.board.Board;
+import chess.domain.move.MoveList;
+import chess.domain.piece.Color;
+
+/**
+ * 테이블베이스에 있는 끝내기는 탐색 없이 표를 보고 두고, 없는 위치만 감싼 엔진에게 넘긴다.
+ * 이길 때는 가장 빨리 메이트하는 수를, 질 때는 가장 오래 버티는 수를 고른다.
+ * 표 밖으로 나가는 수(말을 잡아 킹 둘만 남는 수)는 무승부로 본다.
+ */
+public final class TablebaseEngine implements Engine {
+    private final EndgameTables tables;
+    private final Engine engine;
+
+    public TablebaseEngine(EndgameTables tables, Engine engine) {
+        this.tables = tables;
+        this.engine = engine;
+    }
+
+    @Override
+    public SearchResult search(ChessGame chessGame, SearchLimits limits) {
+        if (chessGame.isFinished()) {
+            return engine.search(chessGame, limits);
+        }
+        long startNanos = System.nanoTime();
+        Board board = chessGame.getBoard().copy();
+        Color color = chessGame.getTurn().getColor();
+        EndgameResult result = tables.probe(board, color);
+        if (!result.isKnown()) {
+            return engine.search(chessGame, limits);
+        }
+        int bestMove = findBestMove(board, color);
+        if (bestMove == SearchResult.NO_MOVE) {
+            return engine.search(chessGame, limits);
+        }
+        return new SearchResult(bestMove, result.toScore(), 0, 0, System.nanoTime() - startNanos);
+    }
+
+    private int findBestMove(Board board, Color color) {
+        MoveList moves = RootMoves.legal(board, color);
+        int bestMove = SearchResult.NO_MOVE;
+        int bestScore = -Scores.INFINITE;
+        for (int index = 0; index < moves.size(); index++) {
+            board.make(moves.get(index));
+            int score = -tables.probe(board, color.switchColor()).toScore();
+            board.unmake();
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = moves.get(index);
+            }
+        }
+        return bestMove;
+    }
+
+    @Override
+    public void stop() {
+        engine.stop();
+    }
+}
@@ -0,0 +1,98 @@
+package chess.engine;
+
+import java.util.Arrays;
+
+/**
+ * Zobrist 키로 찾는 고정 크기 치환표.
+ * 한 칸은 키와, 수·경계·깊이·점수를 한 long 에 묶은 값으로 이루어진다. 빈 칸의 값은 0 이므로 경계는 0 이 아닌 값으로 둔다.
+ * 여러 스레드가 잠금 없이 함께 쓰므로 키 자리에는 키 ^ 값을 적는다. 두 쓰기가 섞인 칸은 다시 XOR 해도 키가 나오지 않아 없는 칸으로 취급된다.
+ */
+public final class TranspositionTable {
+    static final int EXACT = 1;
+    static final int LOWER = 2;
+    static final int UPPER = 3;
+
+    private static final String ERROR_MESSAGE_SIZE = "[ERROR] 치환표 크기는 1MB 이상이어야 해~";
+    private static final int ENTRY_BYTES = Long.BYTES * 2;
+    private static final long BYTES_PER_MEGABYTE = 1L << 20;
+    private static final int MOVE_MASK = (1 << 17) - 1;
+    private static final int BOUND_SHIFT = 17;
+    private static final int BOUND_MASK = 0b11;
+    private static final int DEPTH_SHIFT = 19;
+    private static final int DEPTH_MASK = 0xFF;
+    private static final int SCORE_SHIFT = 32;
+
+    private final long[] keys;
+    private final long[] values;
+    private final int mask;
+
+    public TranspositionTable(int megabytes) {
+        if (megabytes < 1) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_SIZE);
+        }
+        int entries = (int) Long.highestOneBit(Math.min(megabytes * BYTES_PER_MEGABYTE / ENTRY_BYTES, 1 << 30));
+        this.keys = new long[entries];
+        this.values = new long[entries];
+        this.mask = entries - 1;
+    }
+
+    long probe(long key) {
+        int index = index(key);
+        long value = values[index];
+        if ((keys[index] ^ value) != key) {
+            return 0L;
+        }
+        return value;
+    }
+
+    void store(long key, int move, int score, int depth, int bound) {
+        int index = index(key);
+        long stored = values[index];
+        if ((keys[index] ^ stored) == key && depth(stored) > depth) {
+            return;
+        }
+        long value = pack(move, score, depth, bound);
+        keys[index] = key ^ value;
+        values[index] = value;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        Arrays.fill(values, 0L);
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    private int index(long key) {
+        return (int) key & mask;
+    }
+
+    static long pack(int move, int score, int depth, int bound) {
+        return (long) (short) score << SCORE_SHIFT
+                | (long) (depth & DEPTH_MASK) << DEPTH_SHIFT
+                | (long) bound << BOUND_SHIFT
+                | move & MOVE_MASK;
+    }
+
+    static boolean isHit(long value) {
+        return value != 0L;
+    }
+
+    static int move(long value) {
+        return (int) value & MOVE_MASK;
+    }
+
+    static int bound(long value) {
+        return (int) (value >>> BOUND_SHIFT) & BOUND_MASK;
+    }
+
+    static int depth(long value) {
+        return (int) (value >>> DEPTH_SHIFT) & DEPTH_MASK;
+    }
+
+    static int score(long value) {
+        return (short) (value >>> SCORE_SHIFT);
+    }
+}
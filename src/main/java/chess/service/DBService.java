@@ -36,13 +36,14 @@ public class DBService {
     }
 
     private void checkCanContinue(GameTurn gameTurn) {
-        if (GameTurn.FINISHED.equals(gameTurn)) {
+        if (gameTurn.isEnd()) {
             throw new IllegalArgumentException();
         }
     }
 
     public ChessGame loadSavedChessGame(String gameID, GameTurn gameTurn) {
-        return new ChessGame(new SavedBoardGenerator(pieceDao.findByGameID(gameID)), gameTurn);
+        return new ChessGame(new SavedBoardGenerator(pieceDao.findByGameID(gameID)), gameTurn,
+                chessGameDao.findHistoryByID(gameID));
     }
 
     private ChessGame loadNewChessGame() {
@@ -69,8 +70,8 @@ public class DBService {
     }
 
     public void movePiece(String gameID, String source, String target) {
-        pieceDao.deleteByPosition(new Square(target));
-        pieceDao.updatePosition(new Square(source), new Square(target));
-        pieceDao.insertNone(gameID, new Square(source));
+        pieceDao.deleteByPosition(Square.of(target));
+        pieceDao.updatePosition(Square.of(source), Square.of(target));
+        pieceDao.insertNone(gameID, Square.of(source));
     }
 }
@@ -0,0 +1,76 @@
+package chess.tournament;
+
+/**
+ * 승무패로 두 엔진의 Elo 차이와 95% 신뢰 구간을 어림한다.
+ * 판마다 얻은 점수의 분산으로 평균 점수의 오차를 구하고, 구간의 양 끝을 Elo 로 옮긴다.
+ */
+public final class EloEstimate {
+    private static final String ERROR_MESSAGE_GAMES = "[ERROR] Elo 를 어림하려면 한 판 이상 두어야 해~";
+    private static final double Z_95 = 1.959963984540054;
+    private static final double DRAW_SCORE = 0.5;
+    private static final double ELO_SCALE = 400;
+
+    private final int games;
+    private final double score;
+    private final double difference;
+    private final double lower;
+    private final double upper;
+
+    private EloEstimate(int games, double score, double difference, double lower, double upper) {
+        this.games = games;
+        this.score = score;
+        this.difference = difference;
+        this.lower = lower;
+        this.upper = upper;
+    }
+
+    public static EloEstimate of(int wins, int draws, int losses) {
+        int games = wins + draws + losses;
+        if (games <= 0) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_GAMES);
+        }
+        double score = (wins + draws * DRAW_SCORE) / games;
+        double variance = (wins * square(1 - score) + draws * square(DRAW_SCORE - score) + losses * square(score))
+                / games;
+        double error = Z_95 * Math.sqrt(variance / games);
+        return new EloEstimate(games, score, toElo(score, games), toElo(score - error, games),
+                toElo(score + error, games));
+    }
+
+    private static double square(double value) {
+        return value * value;
+    }
+
+    /**
+     * 전승이나 전패는 무한대가 되므로 반 판만큼 안쪽으로 당겨서 바꾼다.
+     */
+    static double toElo(double score, int games) {
+        double bound = DRAW_SCORE / games;
+        double clamped = Math.min(Math.max(score, bound), 1 - bound);
+        return -ELO_SCALE * Math.log10(1 / clamped - 1);
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public double getDifference() {
+        return difference;
+    }
+
+    public double getMargin() {
+        return (upper - lower) / 2;
+    }
+
+    public double getLower() {
+        return lower;
+    }
+
+    public double getUpper() {
+        return upper;
+    }
+}
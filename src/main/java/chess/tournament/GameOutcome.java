@@ -0,0 +1,26 @@
+package chess.tournament;
+
+import chess.domain.piece.Color;
+
+public enum GameOutcome {
+    WHITE_WIN("1-0"),
+    BLACK_WIN("0-1"),
+    DRAW("1/2-1/2");
+
+    private final String notation;
+
+    GameOutcome(String notation) {
+        this.notation = notation;
+    }
+
+    public static GameOutcome winner(Color color) {
+        if (color == Color.WHITE) {
+            return WHITE_WIN;
+        }
+        return BLACK_WIN;
+    }
+
+    public String getNotation() {
+        return notation;
+    }
+}
@@ -0,0 +1,67 @@
+package chess.tournament;
+
+import java.util.List;
+
+import chess.domain.piece.Color;
+
+/**
+ * 두 선수의 이름이 같은 맞대결도 있으므로, 점수는 이름이 아니라 첫 번째 선수가 앉은 색으로 매긴다.
+ */
+public final class GameRecord {
+    private final int round;
+    private final String white;
+    private final String black;
+    private final List<String> moves;
+    private final GameOutcome outcome;
+    private final String termination;
+    private final Color firstColor;
+
+    GameRecord(int round, String white, String black, List<String> moves, GameOutcome outcome,
+            String termination, Color firstColor) {
+        this.round = round;
+        this.white = white;
+        this.black = black;
+        this.moves = List.copyOf(moves);
+        this.outcome = outcome;
+        this.termination = termination;
+        this.firstColor = firstColor;
+    }
+
+    public double scoreOfFirst() {
+        if (outcome == GameOutcome.DRAW) {
+            return 0.5;
+        }
+        if (outcome == GameOutcome.winner(firstColor)) {
+            return 1;
+        }
+        return 0;
+    }
+
+    public int getRound() {
+        return round;
+    }
+
+    public String getWhite() {
+        return white;
+    }
+
+    public String getBlack() {
+        return black;
+    }
+
+    public List<String> getMoves() {
+        return moves;
+    }
+
+    public GameOutcome getOutcome() {
+        return outcome;
+    }
+
+    public String getTermination() {
+        return termination;
+    }
+
+    public Color getFirstColor() {
+        return firstColor;
+    }
+}
@@ -0,0 +1,82 @@
+package chess.tournament;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+public final class PgnWriter {
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy.MM.dd");
+    private static final String TAG_FORMAT = "[%s \"%s\"]%n";
+    private static final String SITE = "?";
+    private static final int LINE_WIDTH = 80;
+
+    private final String event;
+    private final LocalDate date;
+
+    public PgnWriter(String event, LocalDate date) {
+        this.event = event;
+        this.date = date;
+    }
+
+    public void write(List<GameRecord> records, Writer writer) throws IOException {
+        for (GameRecord record : records) {
+            writer.write(toPgn(record));
+        }
+        writer.flush();
+    }
+
+    public String toPgn(GameRecord record) {
+        StringBuilder pgn = new StringBuilder();
+        pgn.append(tag("Event", event))
+                .append(tag("Site", SITE))
+                .append(tag("Date", DATE_FORMAT.format(date)))
+                .append(tag("Round", String.valueOf(record.getRound())))
+                .append(tag("White", record.getWhite()))
+                .append(tag("Black", record.getBlack()))
+                .append(tag("Result", record.getOutcome().getNotation()))
+                .append(tag("PlyCount", String.valueOf(record.getMoves().size())))
+                .append(tag("Termination", record.getTermination()))
+                .append(System.lineSeparator())
+                .append(movetext(record))
+                .append(System.lineSeparator())
+                .append(System.lineSeparator());
+        return pgn.toString();
+    }
+
+    private static String tag(String name, String value) {
+        return String.format(TAG_FORMAT, name, value.replace("\"", "'"));
+    }
+
+    private static String movetext(GameRecord record) {
+        StringBuilder text = new StringBuilder();
+        int lineLength = 0;
+        List<String> moves = record.getMoves();
+        for (int ply = 0; ply < moves.size(); ply++) {
+            lineLength = append(text, lineLength, token(ply, moves.get(ply)));
+        }
+        append(text, lineLength, record.getOutcome().getNotation());
+        return text.toString();
+    }
+
+    private static String token(int ply, String move) {
+        if (ply % 2 == 0) {
+            return (ply / 2 + 1) + ". " + move;
+        }
+        return move;
+    }
+
+    private static int append(StringBuilder text, int lineLength, String token) {
+        if (lineLength == 0) {
+            text.append(token);
+            return token.length();
+        }
+        if (lineLength + 1 + token.length() > LINE_WIDTH) {
+            text.append(System.lineSeparator()).append(token);
+            return token.length();
+        }
+        text.append(' ').append(token);
+        return lineLength + 1 + token.length();
+    }
+}
@@ -0,0 +1,26 @@
+package chess.tournament;
+
+import java.util.function.Supplier;
+
+import chess.engine.Engine;
+
+/**
+ * 대국마다 새 엔진을 만들어 쓰므로, 동시에 여러 판을 두어도 탐색 상태가 섞이지 않는다.
+ */
+public final class Player {
+    private final String name;
+    private final Supplier<Engine> engineSupplier;
+
+    public Player(String name, Supplier<Engine> engineSupplier) {
+        this.name = name;
+        this.engineSupplier = engineSupplier;
+    }
+
+    Engine createEngine() {
+        return engineSupplier.get();
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,120 @@
+package chess.tournament;
+
+import java.util.Locale;
+import java.util.Map;
+
+import chess.domain.board.Board;
+import chess.domain.move.MoveList;
+import chess.domain.move.PackedMove;
+import chess.domain.piece.Color;
+import chess.domain.piece.Piece;
+import chess.domain.piece.PieceType;
+import chess.domain.position.Square;
+
+/**
+ * 수를 두기 전의 판을 보고 PGN 에 쓰는 표준 대수 기보(SAN)로 바꾼다.
+ * 같은 칸으로 갈 수 있는 같은 종류의 말이 있으면 파일, 랭크, 둘 다의 순서로 구분한다.
+ */
+final class SanNotation {
+    private static final Map<PieceType, String> LETTERS = Map.of(
+            PieceType.KING, "K",
+            PieceType.QUEEN, "Q",
+            PieceType.ROOK, "R",
+            PieceType.BISHOP, "B",
+            PieceType.KNIGHT, "N");
+    private static final String CAPTURE = "x";
+    private static final String CHECK = "+";
+    private static final String CHECKMATE = "#";
+
+    private SanNotation() {
+    }
+
+    static String of(Board board, Color color, int move) {
+        Square source = PackedMove.source(move);
+        Square target = PackedMove.target(move);
+        Piece piece = board.getPiece(source);
+        boolean capture = !board.getPiece(target).isNone();
+        if (piece.isPawn()) {
+            return pawn(source, target, capture);
+        }
+        return LETTERS.get(piece.getType()) + disambiguate(board, color, move) + captureMark(capture) + name(target);
+    }
+
+    static String withCheck(String san, boolean checkmate, boolean check) {
+        if (checkmate) {
+            return san + CHECKMATE;
+        }
+        if (check) {
+            return san + CHECK;
+        }
+        return san;
+    }
+
+    private static String pawn(Square source, Square target, boolean capture) {
+        if (capture) {
+            return file(source) + CAPTURE + name(target);
+        }
+        return name(target);
+    }
+
+    private static String disambiguate(Board board, Color color, int move) {
+        Square source = PackedMove.source(move);
+        Square target = PackedMove.target(move);
+        PieceType type = board.getPiece(source).getType();
+        boolean ambiguous = false;
+        boolean sameFile = false;
+        boolean sameRank = false;
+        MoveList moves = board.generateMoves(color);
+        for (int index = 0; index < moves.size(); index++) {
+            int other = moves.get(index);
+            Square otherSource = PackedMove.source(other);
+            if (PackedMove.target(other) != target || otherSource == source
+                    || board.getPiece(otherSource).getType() != type || !isLegal(board, color, other)) {
+                continue;
+            }
+            ambiguous = true;
+            sameFile |= otherSource.getColumn() == source.getColumn();
+            sameRank |= otherSource.getRow() == source.getRow();
+        }
+        return disambiguation(source, ambiguous, sameFile, sameRank);
+    }
+
+    private static String disambiguation(Square source, boolean ambiguous, boolean sameFile, boolean sameRank) {
+        if (!ambiguous) {
+            return "";
+        }
+        if (!sameFile) {
+            return file(source);
+        }
+        if (!sameRank) {
+            return rank(source);
+        }
+        return name(source);
+    }
+
+    private static boolean isLegal(Board board, Color color, int move) {
+        board.make(move);
+        boolean legal = !board.isInCheck(color);
+        board.unmake();
+        return legal;
+    }
+
+    private static String captureMark(boolean capture) {
+        if (capture) {
+            return CAPTURE;
+        }
+        return "";
+    }
+
+    private static String name(Square square) {
+        return square.getName().toLowerCase(Locale.ROOT);
+    }
+
+    private static String file(Square square) {
+        return name(square).substring(0, 1);
+    }
+
+    private static String rank(Square square) {
+        return name(square).substring(1);
+    }
+}
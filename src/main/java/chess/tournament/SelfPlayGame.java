@@ -0,0 +1,86 @@
+package chess.tournament;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import chess.domain.ChessGame;
+import chess.domain.GameTurn;
+import chess.domain.board.InitialBoardGenerator;
+import chess.domain.piece.Color;
+import chess.engine.Engine;
+import chess.engine.SearchLimits;
+import chess.engine.SearchResult;
+
+/**
+ * 두 엔진이 한 판을 끝까지 두게 한다.
+ * 규칙으로 끝나지 않은 채 수가 너무 길어지거나 둘 수가 없으면 무승부로 판정한다.
+ */
+final class SelfPlayGame {
+    static final int MAX_PLIES = 400;
+    private static final String TERMINATION_NORMAL = "normal";
+    private static final String TERMINATION_ADJUDICATION = "adjudication";
+
+    private final Player white;
+    private final Player black;
+    private final SearchLimits limits;
+
+    SelfPlayGame(Player white, Player black, SearchLimits limits) {
+        this.white = white;
+        this.black = black;
+        this.limits = limits;
+    }
+
+    GameRecord play(int round, List<Integer> opening, Color firstColor) {
+        ChessGame chessGame = new ChessGame(new InitialBoardGenerator(), GameTurn.WHITE);
+        List<String> moves = new ArrayList<>();
+        for (int move : opening) {
+            play(chessGame, move, moves);
+        }
+        Engine whiteEngine = white.createEngine();
+        Engine blackEngine = black.createEngine();
+        while (!chessGame.isFinished() && moves.size() < MAX_PLIES) {
+            SearchResult result = engineOf(chessGame, whiteEngine, blackEngine).search(chessGame, limits);
+            if (!result.hasBestMove()) {
+                break;
+            }
+            play(chessGame, result.getBestMove(), moves);
+        }
+        return new GameRecord(round, white.getName(), black.getName(), moves, outcomeOf(chessGame, moves),
+                terminationOf(chessGame), firstColor);
+    }
+
+    private static Engine engineOf(ChessGame chessGame, Engine whiteEngine, Engine blackEngine) {
+        if (chessGame.getTurn().getColor() == Color.WHITE) {
+            return whiteEngine;
+        }
+        return blackEngine;
+    }
+
+    private static void play(ChessGame chessGame, int move, List<String> moves) {
+        Color color = chessGame.getTurn().getColor();
+        String san = SanNotation.of(chessGame.getBoard(), color, move);
+        chessGame.move(move);
+        moves.add(SanNotation.withCheck(san, chessGame.isCheckmate(), chessGame.isInCheck()));
+    }
+
+    private static GameOutcome outcomeOf(ChessGame chessGame, List<String> moves) {
+        if (chessGame.isKingDie() || chessGame.isCheckmate()) {
+            return GameOutcome.winner(lastMover(moves));
+        }
+        return GameOutcome.DRAW;
+    }
+
+    private static Color lastMover(List<String> moves) {
+        if (moves.size() % 2 == 1) {
+            return Color.WHITE;
+        }
+        return Color.BLACK;
+    }
+
+    private static String terminationOf(ChessGame chessGame) {
+        if (chessGame.isFinished()) {
+            return TERMINATION_NORMAL;
+        }
+        return TERMINATION_ADJUDICATION;
+    }
+}
@@ -0,0 +1,108 @@
+package chess.tournament;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import chess.domain.move.PackedMove;
+import chess.domain.piece.Color;
+import chess.engine.SearchLimits;
+
+/**
+ * 두 엔진끼리 여러 판을 스레드마다 한 판씩 나누어 동시에 둔다.
+ * 같은 오프닝을 두 판씩 색을 바꿔 두게 해서 오프닝의 유불리가 결과에 섞이지 않게 한다.
+ */
+public final class Tournament {
+    public static final int OPENING_PLIES = 8;
+    private static final String ERROR_MESSAGE_GAMES = "[ERROR] 대국 수는 1 이상이어야 해~";
+    private static final String ERROR_MESSAGE_THREADS = "[ERROR] 스레드 수는 1 이상이어야 해~";
+    private static final String ERROR_MESSAGE_OPENINGS = "[ERROR] 오프닝이 하나 이상 있어야 해~";
+    private static final int GAMES_PER_OPENING = 2;
+
+    private final Player first;
+    private final Player second;
+    private final SearchLimits limits;
+    private final List<List<Integer>> openings;
+    private final int threads;
+
+    public Tournament(Player first, Player second, SearchLimits limits, List<String> openings, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_THREADS);
+        }
+        this.first = first;
+        this.second = second;
+        this.limits = limits;
+        this.openings = parseOpenings(openings);
+        this.threads = threads;
+    }
+
+    private static List<List<Integer>> parseOpenings(List<String> lines) {
+        List<List<Integer>> openings = lines.stream()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty())
+                .map(Tournament::parseOpening)
+                .collect(Collectors.toList());
+        if (openings.isEmpty()) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_OPENINGS);
+        }
+        return openings;
+    }
+
+    private static List<Integer> parseOpening(String line) {
+        return Arrays.stream(line.split("\\s+"))
+                .limit(OPENING_PLIES)
+                .map(PackedMove::parse)
+                .collect(Collectors.toList());
+    }
+
+    public TournamentResult play(int games) {
+        if (games < 1) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_GAMES);
+        }
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<GameRecord>> futures = new ArrayList<>();
+            for (int round = 0; round < games; round++) {
+                int index = round;
+                futures.add(executor.submit(() -> playRound(index)));
+            }
+            return new TournamentResult(first.getName(), second.getName(), collect(futures),
+                    (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private GameRecord playRound(int round) {
+        List<Integer> opening = openings.get(round / GAMES_PER_OPENING % openings.size());
+        if (round % GAMES_PER_OPENING == 0) {
+            return new SelfPlayGame(first, second, limits).play(round + 1, opening, Color.WHITE);
+        }
+        return new SelfPlayGame(second, first, limits).play(round + 1, opening, Color.BLACK);
+    }
+
+    private static List<GameRecord> collect(List<Future<GameRecord>> futures) {
+        List<GameRecord> records = new ArrayList<>();
+        for (Future<GameRecord> future : futures) {
+            records.add(join(future));
+        }
+        return records;
+    }
+
+    private static GameRecord join(Future<GameRecord> game) {
+        try {
+            return game.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
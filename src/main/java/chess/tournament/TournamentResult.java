@@ -0,0 +1,58 @@
+package chess.tournament;
+
+import java.util.List;
+
+/**
+ * 승무패는 모두 첫 번째 선수 기준이다.
+ */
+public final class TournamentResult {
+    private final String first;
+    private final String second;
+    private final List<GameRecord> records;
+    private final long elapsedMillis;
+
+    TournamentResult(String first, String second, List<GameRecord> records, long elapsedMillis) {
+        this.first = first;
+        this.second = second;
+        this.records = List.copyOf(records);
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public int getWins() {
+        return count(1);
+    }
+
+    public int getDraws() {
+        return count(0.5);
+    }
+
+    public int getLosses() {
+        return count(0);
+    }
+
+    private int count(double score) {
+        return (int) records.stream()
+                .filter(record -> record.scoreOfFirst() == score)
+                .count();
+    }
+
+    public EloEstimate getElo() {
+        return EloEstimate.of(getWins(), getDraws(), getLosses());
+    }
+
+    public String getFirst() {
+        return first;
+    }
+
+    public String getSecond() {
+        return second;
+    }
+
+    public List<GameRecord> getRecords() {
+        return records;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+}
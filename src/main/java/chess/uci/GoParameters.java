@@ -0,0 +1,90 @@
+package chess.uci;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import chess.domain.piece.Color;
+import chess.engine.SearchLimits;
+
+/**
+ * go 명령의 인자. 남은 시간이 주어지면 남은 수로 나눈 몫에 증가분의 3/4 를 더해 이번 수에 쓸 시간을 정한다.
+ * ponder, searchmoves 처럼 모르는 키워드와 그 뒤의 값은 건너뛴다.
+ */
+final class GoParameters {
+    private static final long UNLIMITED = Long.MAX_VALUE;
+    private static final int DEFAULT_MOVES_TO_GO = 30;
+    private static final long MOVE_OVERHEAD_MILLIS = 50;
+    private static final String INFINITE = "infinite";
+    private static final String NUMBER = "-?\\d{1,18}";
+    private static final Map<String, BiConsumer<GoParameters, Long>> SETTERS = Map.of(
+            "wtime", (parameters, value) -> parameters.whiteTime = value,
+            "btime", (parameters, value) -> parameters.blackTime = value,
+            "winc", (parameters, value) -> parameters.whiteIncrement = value,
+            "binc", (parameters, value) -> parameters.blackIncrement = value,
+            "movestogo", (parameters, value) -> parameters.movesToGo = (int) Math.max(value, 1),
+            "movetime", (parameters, value) -> parameters.moveTime = value,
+            "depth", (parameters, value) -> parameters.depth = (int) Math.min(value, SearchLimits.MAX_DEPTH),
+            "nodes", (parameters, value) -> parameters.nodes = value);
+
+    private long whiteTime = UNLIMITED;
+    private long blackTime = UNLIMITED;
+    private long whiteIncrement;
+    private long blackIncrement;
+    private int movesToGo = DEFAULT_MOVES_TO_GO;
+    private long moveTime = UNLIMITED;
+    private int depth = SearchLimits.MAX_DEPTH;
+    private long nodes = UNLIMITED;
+    private boolean infinite;
+
+    private GoParameters() {
+    }
+
+    static GoParameters parse(List<String> tokens) {
+        GoParameters parameters = new GoParameters();
+        for (int index = 1; index < tokens.size(); index++) {
+            String name = tokens.get(index);
+            if (name.equals(INFINITE)) {
+                parameters.infinite = true;
+                continue;
+            }
+            if (hasValue(tokens, index)) {
+                SETTERS.get(name).accept(parameters, Long.parseLong(tokens.get(++index)));
+            }
+        }
+        return parameters;
+    }
+
+    private static boolean hasValue(List<String> tokens, int index) {
+        return SETTERS.containsKey(tokens.get(index)) && index + 1 < tokens.size()
+                && tokens.get(index + 1).matches(NUMBER);
+    }
+
+    SearchLimits toLimits(Color turn) {
+        if (infinite) {
+            return SearchLimits.depth(SearchLimits.MAX_DEPTH);
+        }
+        return SearchLimits.of(Math.max(depth, 1), Math.max(allocateMillis(turn), 1), Math.max(nodes, 1));
+    }
+
+    private long allocateMillis(Color turn) {
+        if (moveTime != UNLIMITED) {
+            return moveTime;
+        }
+        long remaining = whiteTime;
+        long increment = whiteIncrement;
+        if (turn == Color.BLACK) {
+            remaining = blackTime;
+            increment = blackIncrement;
+        }
+        if (remaining == UNLIMITED) {
+            return UNLIMITED;
+        }
+        long budget = remaining / movesToGo + increment * 3 / 4;
+        return Math.min(budget, remaining - MOVE_OVERHEAD_MILLIS);
+    }
+
+    boolean isInfinite() {
+        return infinite;
+    }
+}
@@ -0,0 +1,240 @@
+package chess.uci;
+
+import java.io.PrintStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import chess.domain.ChessGame;
+import chess.domain.GameTurn;
+import chess.domain.board.FenBoardGenerator;
+import chess.domain.board.InitialBoardGenerator;
+import chess.domain.move.PackedMove;
+import chess.engine.AlphaBetaSearch;
+import chess.engine.LazySmpSearch;
+import chess.engine.NeuralEvaluator;
+import chess.engine.SearchLimits;
+import chess.engine.SearchResult;
+import chess.engine.TranspositionTable;
+
+/**
+ * UCI 프로토콜로 체스 GUI 나 대회 도구가 엔진을 다루게 한다.
+ * 탐색은 따로 둔 스레드에서 돌리고 명령은 읽는 대로 바로 처리하므로, 탐색 중에도 stop 과 isready 에 곧바로 답한다.
+ * 이 체스에는 캐슬링, 앙파상, 승급이 없으므로 그런 수가 오면 그 앞까지만 둔다.
+ */
+public final class UciEngine {
+    private static final String ERROR_MESSAGE_POSITION = "[ERROR] position 은 startpos 나 fen 으로 시작해야 해~";
+    private static final String SEPARATOR = "\\s+";
+    private static final String ENGINE_NAME = "java-chess";
+    private static final String ENGINE_AUTHOR = "pup-paw";
+    private static final String NO_MOVE = "0000";
+    private static final String STARTPOS = "startpos";
+    private static final String FEN = "fen";
+    private static final String MOVES = "moves";
+    private static final String NAME = "name";
+    private static final String VALUE = "value";
+    private static final String HASH = "Hash";
+    private static final String THREADS = "Threads";
+    private static final int DEFAULT_THREADS = 1;
+    private static final int MAX_THREADS = 64;
+    private static final int MAX_HASH_MEGABYTES = 1024;
+    private static final long STOP_POLL_MILLIS = 10;
+
+    private final PrintStream output;
+    private final ExecutorService executor;
+    private final Map<String, Consumer<List<String>>> handlers;
+    private LazySmpSearch engine;
+    private int threads;
+    private ChessGame chessGame;
+    private Future<?> running;
+    private CountDownLatch stopSignal;
+
+    public UciEngine(PrintStream output) {
+        this.output = output;
+        this.executor = Executors.newSingleThreadExecutor(UciEngine::newDaemon);
+        this.handlers = new HashMap<>();
+        this.threads = DEFAULT_THREADS;
+        this.engine = createEngine(AlphaBetaSearch.DEFAULT_HASH_MEGABYTES);
+        this.chessGame = new ChessGame(new InitialBoardGenerator(), GameTurn.WHITE);
+        this.stopSignal = new CountDownLatch(0);
+        handlers.put("uci", this::identify);
+        handlers.put("isready", tokens -> output.println("readyok"));
+        handlers.put("setoption", this::setOption);
+        handlers.put("ucinewgame", tokens -> newGame());
+        handlers.put("position", this::position);
+        handlers.put("go", this::go);
+        handlers.put("stop", tokens -> stopSearch());
+    }
+
+    private static Thread newDaemon(Runnable runnable) {
+        Thread thread = new Thread(runnable, "uci-search");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private LazySmpSearch createEngine(int hashMegabytes) {
+        return new LazySmpSearch(threads, NeuralEvaluator::new, new TranspositionTable(hashMegabytes));
+    }
+
+    public boolean handle(String line) {
+        List<String> tokens = List.of(line.trim().split(SEPARATOR));
+        if (tokens.get(0).equals("quit")) {
+            stopSearch();
+            return false;
+        }
+        Consumer<List<String>> handler = handlers.get(tokens.get(0));
+        if (handler == null) {
+            return true;
+        }
+        try {
+            handler.accept(tokens);
+        } catch (IllegalArgumentException e) {
+            output.println("info string " + e.getMessage());
+        }
+        return true;
+    }
+
+    private void identify(List<String> tokens) {
+        output.println("id name " + ENGINE_NAME);
+        output.println("id author " + ENGINE_AUTHOR);
+        output.printf("option name %s type spin default %d min 1 max %d%n", HASH,
+                AlphaBetaSearch.DEFAULT_HASH_MEGABYTES, MAX_HASH_MEGABYTES);
+        output.printf("option name %s type spin default %d min 1 max %d%n", THREADS, DEFAULT_THREADS, MAX_THREADS);
+        output.println("uciok");
+    }
+
+    private void setOption(List<String> tokens) {
+        int name = tokens.indexOf(NAME);
+        int value = tokens.indexOf(VALUE);
+        if (name < 0 || value < 0 || value + 1 >= tokens.size()) {
+            return;
+        }
+        stopSearch();
+        String option = String.join(" ", tokens.subList(name + 1, value));
+        int number = Integer.parseInt(tokens.get(value + 1));
+        if (option.equals(HASH)) {
+            engine = createEngine(Math.min(Math.max(number, 1), MAX_HASH_MEGABYTES));
+        }
+        if (option.equals(THREADS)) {
+            threads = Math.min(Math.max(number, 1), MAX_THREADS);
+            engine.setThreads(threads);
+        }
+    }
+
+    private void newGame() {
+        stopSearch();
+        engine.clear();
+    }
+
+    private void position(List<String> tokens) {
+        stopSearch();
+        int moves = tokens.indexOf(MOVES);
+        if (moves < 0) {
+            moves = tokens.size();
+        }
+        chessGame = createGame(tokens.subList(1, moves));
+        for (String notation : tokens.subList(Math.min(moves + 1, tokens.size()), tokens.size())) {
+            chessGame.move(PackedMove.parse(notation));
+        }
+    }
+
+    private static ChessGame createGame(List<String> tokens) {
+        if (!tokens.isEmpty() && tokens.get(0).equals(FEN)) {
+            FenBoardGenerator boardGenerator = new FenBoardGenerator(String.join(" ", tokens.subList(1, tokens.size())));
+            return new ChessGame(boardGenerator, GameTurn.from(boardGenerator.getTurn()));
+        }
+        if (tokens.isEmpty() || !tokens.get(0).equals(STARTPOS)) {
+            throw new IllegalArgumentException(ERROR_MESSAGE_POSITION);
+        }
+        return new ChessGame(new InitialBoardGenerator(), GameTurn.WHITE);
+    }
+
+    private void go(List<String> tokens) {
+        stopSearch();
+        if (chessGame.isFinished()) {
+            output.println("bestmove " + NO_MOVE);
+            return;
+        }
+        GoParameters parameters = GoParameters.parse(tokens);
+        SearchLimits limits = parameters.toLimits(chessGame.getTurn().getColor());
+        ChessGame searched = chessGame;
+        LazySmpSearch searching = engine;
+        CountDownLatch signal = new CountDownLatch(1);
+        stopSignal = signal;
+        running = executor.submit(() -> search(searching, searched, limits, parameters.isInfinite(), signal));
+    }
+
+    /**
+     * GUI 는 bestmove 가 올 때까지 기다리므로, 탐색이 실패해도 둘 수 없다는 답은 꼭 보낸다.
+     */
+    private void search(LazySmpSearch searching, ChessGame searched, SearchLimits limits, boolean infinite,
+            CountDownLatch signal) {
+        try {
+            SearchResult result = searching.search(searched, limits);
+            if (infinite) {
+                awaitQuietly(signal);
+            }
+            report(result);
+        } catch (RuntimeException e) {
+            output.println("info string " + e.getMessage());
+            output.println("bestmove " + NO_MOVE);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch signal) {
+        try {
+            signal.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void report(SearchResult result) {
+        output.printf("info depth %d score %s nodes %d nps %d time %d%n", result.getDepth(), toUciScore(result),
+                result.getNodes(), result.getNodesPerSecond(), result.getElapsedMillis());
+        if (!result.hasBestMove()) {
+            output.println("bestmove " + NO_MOVE);
+            return;
+        }
+        output.println("bestmove " + result.getBestMoveNotation());
+    }
+
+    private static String toUciScore(SearchResult result) {
+        if (!result.isMate()) {
+            return "cp " + result.getScore();
+        }
+        int moves = (result.getMatePlies() + 1) / 2;
+        if (result.getScore() < 0) {
+            return "mate -" + moves;
+        }
+        return "mate " + moves;
+    }
+
+    private void stopSearch() {
+        stopSignal.countDown();
+        while (running != null && !running.isDone()) {
+            engine.stop();
+            awaitSearch(STOP_POLL_MILLIS);
+        }
+    }
+
+    void awaitSearch(long millis) {
+        try {
+            running.get(millis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            output.println("info string " + e.getCause().getMessage());
+        } catch (TimeoutException e) {
+            return;
+        }
+    }
+}
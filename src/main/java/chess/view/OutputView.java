@@ -1,17 +1,22 @@
 package chess.view;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
-import com.google.common.collect.Lists;
-
 import chess.domain.board.Board;
+import chess.domain.board.PawnHashTable;
 import chess.domain.GameResult;
+import chess.domain.perft.PerftResult;
 import chess.domain.piece.Color;
 import chess.domain.piece.Piece;
 import chess.domain.position.Row;
 import chess.domain.position.Square;
+import chess.engine.Bench;
+import chess.engine.BenchResult;
+import chess.engine.SearchResult;
+import chess.tournament.EloEstimate;
+import chess.tournament.TournamentResult;
 
 public class OutputView {
     private static final String MESSAGE_START = "> 체스 게임을 시작합니다.";
@@ -21,6 +26,20 @@ public class OutputView {
     private static final String MESSAGE_INPUT_STATUS = "> 결과 출력 : status";
     private static final String RESULT_FORMAT = "%s : %.1f점%n";
     private static final String MESSAGE_GAME_END = "king 잡았다!";
+    private static final String MESSAGE_CHECK = "체크! king 을 지켜라!";
+    private static final String MESSAGE_CHECKMATE = "체크메이트! 더 이상 king 을 지킬 수 없다!";
+    private static final String MESSAGE_STALEMATE = "스테일메이트! 둘 수 있는 수가 없어서 무승부!";
+    private static final String MESSAGE_REPETITION = "같은 위치가 세 번 나왔다! 무승부!";
+    private static final String MESSAGE_FIFTY_MOVE = "50수 동안 잡지도, 폰을 움직이지도 않았다! 무승부!";
+    private static final String PAWN_TABLE_FORMAT = "폰 해시 적중률 : %.1f%% (적중 %d, 실패 %d)%n";
+    private static final String PERFT_FORMAT = "depth %d : %d 노드, %d ms, %d nodes/s%n";
+    private static final String DIVIDE_FORMAT = "%s : %d%n";
+    private static final String BENCH_POSITION_FORMAT = "%d. %s : %s, %d 노드, %d ms%n";
+    private static final String BENCH_TOTAL_FORMAT = "depth %d : %d 노드, %d ms, %d nodes/s%n";
+    private static final String BENCH_SIGNATURE_FORMAT = "signature : %s%n";
+    private static final String TOURNAMENT_FORMAT = "%s vs %s : %d 판, +%d =%d -%d, %d ms%n";
+    private static final String ELO_FORMAT = "Elo 차이 : %+.1f ± %.1f (95%%), 점수 %.1f%%%n";
+    private static final int BOARD_SIZE = Row.values().length;
 
     public static void announceStart() {
         System.out.println(MESSAGE_START);
@@ -31,32 +50,31 @@ public class OutputView {
     }
 
     public static void showBoard(Board board) {
-        for (List<Piece> pieces : splitByRank(board.getBoard())) {
-            pieces.stream()
-                    .map(Piece::getEmoji)
-                    .forEach(System.out::print);
-            System.out.println();
+        String[] emojis = new String[BOARD_SIZE * BOARD_SIZE];
+        Arrays.fill(emojis, Piece.none().getEmoji());
+        for (Color color : List.of(Color.WHITE, Color.BLACK)) {
+            fillEmojis(emojis, board, color);
+        }
+        for (int rank = BOARD_SIZE - 1; rank >= 0; rank--) {
+            System.out.println(String.join("", Arrays.copyOfRange(emojis, rank * BOARD_SIZE, (rank + 1) * BOARD_SIZE)));
         }
     }
 
-    private static List<List<Piece>> splitByRank(Map<Square, Piece> board) {
-        List<Piece> pieces = new ArrayList<>(board.values());
-        List<List<Piece>> splitPieces = Lists.partition(pieces, Row.values().length);
-        return reverse(splitPieces);
-    }
-
-    private static List<List<Piece>> reverse(List<List<Piece>> splitPieces) {
-        List<List<Piece>> result = new ArrayList<>();
-        for (List<Piece> splitPiece : splitPieces) {
-            result.add(0, splitPiece);
+    private static void fillEmojis(String[] emojis, Board board, Color color) {
+        for (Square square : board.getSquares(color)) {
+            emojis[square.getIndex()] = board.getPiece(square).getEmoji();
         }
-        return result;
     }
 
     public static void showScore(GameResult gameResult, Color color) {
         System.out.printf(RESULT_FORMAT, color.getValue(), gameResult.calculateScore(color));
     }
 
+    public static void showPawnTable(PawnHashTable pawnTable) {
+        System.out.printf(PAWN_TABLE_FORMAT, pawnTable.getHitRate() * 100, pawnTable.getHits(),
+                pawnTable.getMisses());
+    }
+
     public static void printMessage(String message) {
         System.out.println(message);
     }
@@ -64,4 +82,52 @@ public class OutputView {
     public static void printKingDieMessage() {
         System.out.println(MESSAGE_GAME_END);
     }
+
+    public static void printCheckMessage() {
+        System.out.println(MESSAGE_CHECK);
+    }
+
+    public static void printCheckmateMessage() {
+        System.out.println(MESSAGE_CHECKMATE);
+    }
+
+    public static void printStalemateMessage() {
+        System.out.println(MESSAGE_STALEMATE);
+    }
+
+    public static void printRepetitionMessage() {
+        System.out.println(MESSAGE_REPETITION);
+    }
+
+    public static void printFiftyMoveMessage() {
+        System.out.println(MESSAGE_FIFTY_MOVE);
+    }
+
+    public static void showPerft(PerftResult perftResult) {
+        System.out.printf(PERFT_FORMAT, perftResult.getDepth(), perftResult.getNodes(),
+                perftResult.getElapsedMillis(), perftResult.getNodesPerSecond());
+    }
+
+    public static void showDivide(Map<String, Long> divided) {
+        divided.forEach((move, nodes) -> System.out.printf(DIVIDE_FORMAT, move, nodes));
+    }
+
+    public static void showBench(BenchResult benchResult) {
+        List<SearchResult> results = benchResult.getResults();
+        for (int index = 0; index < results.size(); index++) {
+            SearchResult result = results.get(index);
+            System.out.printf(BENCH_POSITION_FORMAT, index + 1, Bench.getPositions().get(index),
+                    result.getBestMoveNotation(), result.getNodes(), result.getElapsedMillis());
+        }
+        System.out.printf(BENCH_TOTAL_FORMAT, benchResult.getDepth(), benchResult.getNodes(),
+                benchResult.getElapsedMillis(), benchResult.getNodesPerSecond());
+        System.out.printf(BENCH_SIGNATURE_FORMAT, benchResult.getSignature());
+    }
+
+    public static void showTournament(TournamentResult result) {
+        EloEstimate elo = result.getElo();
+        System.out.printf(TOURNAMENT_FORMAT, result.getFirst(), result.getSecond(), elo.getGames(),
+                result.getWins(), result.getDraws(), result.getLosses(), result.getElapsedMillis());
+        System.out.printf(ELO_FORMAT, elo.getDifference(), elo.getMargin(), elo.getScore() * 100);
+    }
 }
@@ -8,7 +8,11 @@ import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import chess.domain.board.FenBoardGenerator;
+import chess.domain.board.InitialBoardGenerator;
 import chess.domain.board.SavedBoardGenerator;
+import chess.domain.move.MoveResult;
+import chess.domain.move.PackedMove;
 import chess.domain.position.Square;
 
 public class ChessGameTest {
@@ -17,9 +21,9 @@ public class ChessGameTest {
     @DisplayName("흰 말로 시작하지 않으면 에러를 반환한다")
     void errorTurn_Start() {
         ChessGame chessGame = new ChessGame(
-                new SavedBoardGenerator(Map.of(new Square("c3"), WHITE_QUEEN, new Square("d4"), BLACK_QUEEN)),
+                new SavedBoardGenerator(Map.of(Square.of("c3"), WHITE_QUEEN, Square.of("d4"), BLACK_QUEEN)),
                 GameTurn.WHITE);
-        assertThatThrownBy(() -> chessGame.move(new Square("d4"), new Square("e5")))
+        assertThatThrownBy(() -> chessGame.move(Square.of("d4"), Square.of("e5")))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("순서 지키시지?!");
     }
@@ -28,11 +32,134 @@ public class ChessGameTest {
     @DisplayName("흰 말 다음 검은 말 순서로 진행하지 않으면 에러를 반환한다")
     void errorTurn() {
         ChessGame chessGame = new ChessGame(
-                new SavedBoardGenerator(Map.of(new Square("c3"), WHITE_QUEEN, new Square("d4"), BLACK_QUEEN)),
+                new SavedBoardGenerator(Map.of(Square.of("c3"), WHITE_QUEEN, Square.of("d4"), BLACK_QUEEN)),
                 GameTurn.WHITE);
-        chessGame.move(new Square("c3"), new Square("d4"));
-        assertThatThrownBy(() -> chessGame.move(new Square("d4"), new Square("e5")))
+        chessGame.move(Square.of("c3"), Square.of("d4"));
+        assertThatThrownBy(() -> chessGame.move(Square.of("d4"), Square.of("e5")))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("순서 지키시지?!");
     }
+
+    @Test
+    @DisplayName("킹을 잡은 수를 되돌리면 잡은 쪽의 순서로 돌아간다")
+    void undo_afterKingCaptured() {
+        ChessGame chessGame = new ChessGame(
+                new SavedBoardGenerator(Map.of(Square.of("c3"), WHITE_QUEEN, Square.of("d4"), BLACK_KING)),
+                GameTurn.WHITE);
+        chessGame.move(Square.of("c3"), Square.of("d4"));
+        chessGame.undo();
+
+        assertThat(chessGame.getTurn()).isEqualTo(GameTurn.WHITE);
+        assertThat(chessGame.isKingDie()).isFalse();
+    }
+
+    @Test
+    @DisplayName("압축된 수로도 말을 움직일 수 있다")
+    void move_packed() {
+        ChessGame chessGame = new ChessGame(new InitialBoardGenerator(), GameTurn.WHITE);
+        chessGame.move(PackedMove.parse("e2e4"));
+
+        assertThat(chessGame.getEmojis()).containsEntry("E4", "♙");
+        assertThat(chessGame.getTurn()).isEqualTo(GameTurn.BLACK);
+    }
+
+    @Test
+    @DisplayName("둬서 도달한 위치와 불러온 같은 위치는 같은 키를 가진다")
+    void getZobristKey_samePosition() {
+        ChessGame playedGame = new ChessGame(new InitialBoardGenerator(), GameTurn.WHITE);
+        playedGame.move(PackedMove.parse("e2e4"));
+
+        ChessGame loadedGame = new ChessGame(
+                new FenBoardGenerator("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b"), GameTurn.BLACK);
+
+        assertThat(playedGame.getZobristKey()).isEqualTo(loadedGame.getZobristKey());
+    }
+
+    @Test
+    @DisplayName("잘못된 수는 예외 없이 이유 코드를 돌려주고, 말을 움직이지 않는다")
+    void tryMove_reasonCodes() {
+        ChessGame chessGame = new ChessGame(new InitialBoardGenerator(), GameTurn.WHITE);
+
+        assertThat(chessGame.tryMove("e7", "e5")).isEqualTo(MoveResult.WRONG_TURN);
+        assertThat(chessGame.tryMove("e2", "e9")).isEqualTo(MoveResult.OFF_BOARD);
+        assertThat(chessGame.tryMove("i2", "e4")).isEqualTo(MoveResult.OFF_BOARD);
+        assertThat(chessGame.getTurn()).isEqualTo(GameTurn.WHITE);
+
+        assertThat(chessGame.tryMove("e2", "e4")).isEqualTo(MoveResult.LEGAL);
+        assertThat(chessGame.getTurn()).isEqualTo(GameTurn.BLACK);
+    }
+
+    @Test
+    @DisplayName("바보의 메이트가 되면 체크메이트로 게임이 끝난다")
+    void move_checkmate() {
+        ChessGame chessGame = new ChessGame(new InitialBoardGenerator(), GameTurn.WHITE);
+        chessGame.move(PackedMove.parse("f2f3"));
+        chessGame.move(PackedMove.parse("e7e5"));
+        chessGame.move(PackedMove.parse("g2g4"));
+        chessGame.move(PackedMove.parse("d8h4"));
+
+        assertThat(chessGame.getTurn()).isEqualTo(GameTurn.CHECKMATE);
+        assertThat(chessGame.isFinished()).isTrue();
+    }
+
+    @Test
+    @DisplayName("체크가 아닌데 둘 수 있는 수가 없으면 스테일메이트로 게임이 끝난다")
+    void move_stalemate() {
+        ChessGame chessGame = new ChessGame(new FenBoardGenerator("7k/8/6K1/8/8/8/8/5Q2 w"), GameTurn.WHITE);
+        chessGame.move(PackedMove.parse("f1f7"));
+
+        assertThat(chessGame.getTurn()).isEqualTo(GameTurn.STALEMATE);
+        assertThat(chessGame.isInCheck()).isFalse();
+    }
+
+    @Test
+    @DisplayName("체크를 당해도 피할 수 있으면 게임이 계속된다")
+    void move_check() {
+        ChessGame chessGame = new ChessGame(new FenBoardGenerator("4k3/8/8/8/8/8/8/3QK3 w"), GameTurn.WHITE);
+        chessGame.move(PackedMove.parse("d1e2"));
+
+        assertThat(chessGame.getTurn()).isEqualTo(GameTurn.BLACK);
+        assertThat(chessGame.isInCheck()).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 위치가 세 번 나오면 무승부로 게임이 끝나고, 되돌리면 다시 이어진다")
+    void move_repetition() {
+        ChessGame chessGame = new ChessGame(new InitialBoardGenerator(), GameTurn.WHITE);
+        for (int round = 0; round < 2; round++) {
+            chessGame.move(PackedMove.parse("g1f3"));
+            chessGame.move(PackedMove.parse("g8f6"));
+            chessGame.move(PackedMove.parse("f3g1"));
+            chessGame.move(PackedMove.parse("f6g8"));
+        }
+
+        assertThat(chessGame.getTurn()).isEqualTo(GameTurn.REPETITION);
+        assertThat(chessGame.isFinished()).isTrue();
+
+        chessGame.undo();
+        assertThat(chessGame.getTurn()).isEqualTo(GameTurn.BLACK);
+        assertThat(chessGame.getHistory().countRepetitions()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("50수 동안 잡지도 폰을 움직이지도 않으면 무승부로 게임이 끝난다")
+    void move_fiftyMove() {
+        ChessGame chessGame = new ChessGame(new FenBoardGenerator("4k3/8/8/8/8/8/8/R3K3 w"), GameTurn.WHITE,
+                PositionHistory.restore("", 99));
+        chessGame.move(PackedMove.parse("a1a2"));
+
+        assertThat(chessGame.getTurn()).isEqualTo(GameTurn.FIFTY_MOVE);
+    }
+
+    @Test
+    @DisplayName("폰을 움직이면 반수 시계가 0 으로 돌아간다")
+    void move_resetHalfmoveClock() {
+        ChessGame chessGame = new ChessGame(new InitialBoardGenerator(), GameTurn.WHITE);
+        chessGame.move(PackedMove.parse("g1f3"));
+        chessGame.move(PackedMove.parse("g8f6"));
+        assertThat(chessGame.getHistory().getHalfmoveClock()).isEqualTo(2);
+
+        chessGame.move(PackedMove.parse("e2e4"));
+        assertThat(chessGame.getHistory().getHalfmoveClock()).isZero();
+    }
 }
@@ -9,6 +9,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import chess.domain.board.Board;
+import chess.domain.board.FenBoardGenerator;
+import chess.domain.board.InitialBoardGenerator;
+import chess.domain.move.PackedMove;
 import chess.domain.piece.Color;
 import chess.domain.position.Square;
 
@@ -19,10 +22,10 @@ public class GameResultTest {
     void getStatus_rook1_bishop1_queen1_pawn1() {
         Board chessBoard = new Board(() ->
             Map.of(
-                    new Square("c3"), WHITE_QUEEN,
-                    new Square("c4"), WHITE_ROOK,
-                    new Square("c5"), WHITE_BISHOP,
-                    new Square("c6"), WHITE_PAWN
+                    Square.of("c3"), WHITE_QUEEN,
+                    Square.of("c4"), WHITE_ROOK,
+                    Square.of("c5"), WHITE_BISHOP,
+                    Square.of("c6"), WHITE_PAWN
             ));
         GameResult gameResult = new GameResult(chessBoard);
 
@@ -34,8 +37,8 @@ public class GameResultTest {
     void getStatus_pawn2_sameFile() {
         Board chessBoard = new Board(() ->
             Map.of(
-                new Square("c5"), WHITE_PAWN,
-                new Square("c6"), WHITE_PAWN
+                Square.of("c5"), WHITE_PAWN,
+                Square.of("c6"), WHITE_PAWN
             ));
         GameResult gameResult = new GameResult(chessBoard);
 
@@ -47,15 +50,43 @@ public class GameResultTest {
     void getStatus_rook1_bishop1_queen1_pawn3() {
         Board chessBoard = new Board(() ->
             Map.of(
-                new Square("c3"), WHITE_QUEEN,
-                new Square("b4"), WHITE_ROOK,
-                new Square("a5"), WHITE_BISHOP,
-                new Square("c6"), WHITE_PAWN,
-                new Square("c5"), WHITE_PAWN,
-                new Square("c4"), WHITE_PAWN
+                Square.of("c3"), WHITE_QUEEN,
+                Square.of("b4"), WHITE_ROOK,
+                Square.of("a5"), WHITE_BISHOP,
+                Square.of("c6"), WHITE_PAWN,
+                Square.of("c5"), WHITE_PAWN,
+                Square.of("c4"), WHITE_PAWN
             ));
         GameResult gameResult = new GameResult(chessBoard);
 
         assertThat(gameResult.calculateScore(Color.WHITE)).isEqualTo(18.5);
     }
+
+    @Test
+    @DisplayName("말을 잡아 폰이 같은 세로줄에 모이면 점수에 바로 반영되고, 되돌리면 원래 점수로 돌아간다")
+    void calculateScore_afterCaptureAndUnmake() {
+        Board chessBoard = new Board(new FenBoardGenerator("4k3/8/8/8/2n5/3P4/2P5/4K3 w"));
+        GameResult gameResult = new GameResult(chessBoard);
+
+        chessBoard.make(PackedMove.parse("d3c4"));
+        assertThat(gameResult.calculateScore(Color.WHITE)).isEqualTo(1);
+        assertThat(gameResult.calculateScore(Color.BLACK)).isEqualTo(0);
+
+        chessBoard.unmake();
+        assertThat(gameResult.calculateScore(Color.WHITE)).isEqualTo(2);
+        assertThat(gameResult.calculateScore(Color.BLACK)).isEqualTo(2.5);
+    }
+
+    @Test
+    @DisplayName("게임이 가진 폰 해시 표로 점수를 다시 매기면 적중률이 올라간다")
+    void calculateScore_gamePawnTable() {
+        ChessGame chessGame = new ChessGame(new InitialBoardGenerator(), GameTurn.WHITE);
+        GameResult gameResult = new GameResult(chessGame.getBoard(), chessGame.getPawnTable());
+
+        gameResult.calculateScore(Color.WHITE);
+        gameResult.calculateScore(Color.BLACK);
+
+        assertThat(chessGame.getPawnTable().getMisses()).isEqualTo(1);
+        assertThat(chessGame.getPawnTable().getHits()).isEqualTo(1);
+    }
 }
@@ -0,0 +1,39 @@
+package chess.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import chess.domain.board.InitialBoardGenerator;
+import chess.domain.move.PackedMove;
+
+public class PositionHistoryTest {
+
+    @Test
+    @DisplayName("저장한 키와 반수 시계로 되살리면 반복 횟수와 시계가 그대로 이어진다")
+    void restore_savedKeys() {
+        ChessGame chessGame = new ChessGame(new InitialBoardGenerator(), GameTurn.WHITE);
+        chessGame.move(PackedMove.parse("g1f3"));
+        chessGame.move(PackedMove.parse("g8f6"));
+        chessGame.move(PackedMove.parse("f3g1"));
+        chessGame.move(PackedMove.parse("f6g8"));
+        PositionHistory history = chessGame.getHistory();
+
+        PositionHistory restored = PositionHistory.restore(history.toSavedKeys(), history.getHalfmoveClock());
+
+        assertThat(restored.countRepetitions()).isEqualTo(2);
+        assertThat(restored.getHalfmoveClock()).isEqualTo(4);
+        assertThat(restored.toSavedKeys()).isEqualTo(history.toSavedKeys());
+    }
+
+    @Test
+    @DisplayName("되돌릴 수 없는 수 이전의 키는 저장하지 않는다")
+    void toSavedKeys_sinceIrreversible() {
+        ChessGame chessGame = new ChessGame(new InitialBoardGenerator(), GameTurn.WHITE);
+        chessGame.move(PackedMove.parse("e2e4"));
+        chessGame.move(PackedMove.parse("g8f6"));
+
+        assertThat(chessGame.getHistory().toSavedKeys().split(",")).hasSize(2);
+    }
+}
@@ -10,4 +10,5 @@ public class TestPieces {
     public static final Piece WHITE_BISHOP = Piece.createByPosition(Column.C, Row.ONE);
     public static final Piece WHITE_PAWN = Piece.createByPosition(Column.A, Row.TWO);
     public static final Piece WHITE_ROOK = Piece.createByPosition(Column.A, Row.ONE);
+    public static final Piece BLACK_KING = Piece.createByPosition(Column.E, Row.EIGHT);
 }
@@ -3,11 +3,18 @@ package chess.domain.board;
 import static chess.domain.TestPieces.*;
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import chess.domain.move.MoveList;
+import chess.domain.move.MoveResult;
+import chess.domain.move.PackedMove;
+import chess.domain.piece.Color;
+import chess.domain.piece.Piece;
 import chess.domain.position.Square;
 
 public class BoardTest {
@@ -15,8 +22,8 @@ public class BoardTest {
     @DisplayName("목표하는 위치에 같은 팀의 말이 있으면 에러를 반환한다")
     void errorPosition_SameTeam() {
         Board chessBoard = new Board(new SavedBoardGenerator(
-                Map.of(new Square("c3"), WHITE_QUEEN, new Square("d4"), WHITE_QUEEN)));
-        assertThatThrownBy(() -> chessBoard.checkCanMove(new Square("c3"), new Square("d4")))
+                Map.of(Square.of("c3"), WHITE_QUEEN, Square.of("d4"), WHITE_QUEEN)));
+        assertThatThrownBy(() -> chessBoard.checkCanMove(Square.of("c3"), Square.of("d4")))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("[ERROR] 사격 중지!! 아군이다!! ><");
     }
@@ -25,8 +32,8 @@ public class BoardTest {
     @DisplayName("목표한 위치가 이동할 수 없는 곳이면 에러를 반환한다")
     void errorPosition_Incapable() {
         Board chessBoard = new Board(
-                new SavedBoardGenerator(Map.of(new Square("c3"), WHITE_QUEEN, new Square("d4"), WHITE_QUEEN)));
-        assertThatThrownBy(() -> chessBoard.checkCanMove(new Square("c3"), new Square("e6")))
+                new SavedBoardGenerator(Map.of(Square.of("c3"), WHITE_QUEEN, Square.of("d4"), WHITE_QUEEN)));
+        assertThatThrownBy(() -> chessBoard.checkCanMove(Square.of("c3"), Square.of("e6")))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("허걱... 거긴 못가... 미안..");
     }
@@ -35,9 +42,244 @@ public class BoardTest {
     @DisplayName("가는 길에 다른 피스가 있으면 에러를 반환한다")
     void errorDirection_Blocked() {
         Board chessBoard = new Board(
-                new SavedBoardGenerator(Map.of(new Square("c3"), WHITE_QUEEN, new Square("d4"), WHITE_QUEEN)));
-        assertThatThrownBy(() -> chessBoard.checkCanMove(new Square("c3"), new Square("e5")))
+                new SavedBoardGenerator(Map.of(Square.of("c3"), WHITE_QUEEN, Square.of("d4"), WHITE_QUEEN)));
+        assertThatThrownBy(() -> chessBoard.checkCanMove(Square.of("c3"), Square.of("e5")))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("길이 막혔다...!");
     }
+
+    @Test
+    @DisplayName("비트보드 체스판도 가는 길에 다른 피스가 있으면 에러를 반환한다")
+    void errorDirection_Blocked_Bitboard() {
+        Board chessBoard = new Board(new BitboardGenerator(
+                new SavedBoardGenerator(Map.of(Square.of("c3"), WHITE_QUEEN, Square.of("d4"), WHITE_QUEEN))));
+        assertThatThrownBy(() -> chessBoard.checkCanMove(Square.of("c3"), Square.of("e5")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("길이 막혔다...!");
+    }
+
+    @Test
+    @DisplayName("비트보드 체스판은 빈 칸을 지나 이동할 수 있다")
+    void checkCanMove_Bitboard() {
+        Board chessBoard = new Board(new BitboardGenerator(
+                new SavedBoardGenerator(Map.of(Square.of("c3"), WHITE_QUEEN, Square.of("f6"), BLACK_QUEEN))));
+        assertThatNoException().isThrownBy(() -> chessBoard.checkCanMove(Square.of("c3"), Square.of("f6")));
+    }
+
+    @Test
+    @DisplayName("비트보드 체스판과 맵 체스판은 이동 후 같은 색의 말을 같은 순서로 반환한다")
+    void filterBy_sameAsMapBoard() {
+        Board mapBoard = new Board(new InitialBoardGenerator());
+        mapBoard.make(Square.of("b1"), Square.of("c3"));
+        Board bitboard = new Board(new BitboardGenerator(new InitialBoardGenerator()));
+        bitboard.make(Square.of("b1"), Square.of("c3"));
+
+        assertThat(squaresOf(bitboard.filterBy(Color.WHITE))).isEqualTo(squaresOf(mapBoard.filterBy(Color.WHITE)));
+    }
+
+    @Test
+    @DisplayName("색깔별 말 목록은 잡고 되돌린 뒤에도 체스판과 같은 칸을 가리킨다")
+    void getSquares_afterCaptureAndUnmake() {
+        Board chessBoard = new Board(new SavedBoardGenerator(
+                Map.of(Square.of("c3"), WHITE_QUEEN, Square.of("a1"), WHITE_ROOK, Square.of("d4"), BLACK_QUEEN)));
+        chessBoard.make(Square.of("c3"), Square.of("d4"));
+
+        assertThat(chessBoard.getSquares(Color.WHITE)).containsExactlyInAnyOrder(Square.of("a1"), Square.of("d4"));
+        assertThat(chessBoard.getSquares(Color.BLACK)).isEmpty();
+
+        chessBoard.unmake();
+        assertThat(chessBoard.getSquares(Color.WHITE)).containsExactlyInAnyOrder(Square.of("a1"), Square.of("c3"));
+        assertThat(chessBoard.getSquares(Color.BLACK)).containsExactly(Square.of("d4"));
+    }
+
+    @Test
+    @DisplayName("비트보드 체스판은 목표 위치의 킹을 판단한다")
+    void isTargetKing_Bitboard() {
+        Board chessBoard = new Board(new BitboardGenerator(new InitialBoardGenerator()));
+        assertThat(chessBoard.isTargetKing(Square.of("e8"))).isTrue();
+        assertThat(chessBoard.isTargetKing(Square.of("d8"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("이동을 되돌리면 잡힌 말과 원래 위치가 복원된다")
+    void unmake_restoresCapture() {
+        Board chessBoard = new Board(new SavedBoardGenerator(
+                Map.of(Square.of("c3"), WHITE_QUEEN, Square.of("d4"), BLACK_QUEEN)));
+        chessBoard.make(Square.of("c3"), Square.of("d4"));
+        chessBoard.unmake();
+
+        assertThat(chessBoard.getBoard()).containsEntry(Square.of("c3"), WHITE_QUEEN);
+        assertThat(chessBoard.getBoard()).containsEntry(Square.of("d4"), BLACK_QUEEN);
+    }
+
+    @Test
+    @DisplayName("폰의 이동을 되돌리면 다시 두 칸 전진할 수 있다")
+    void unmake_restoresPawnStart() {
+        Board chessBoard = new Board(new BitboardGenerator(new InitialBoardGenerator()));
+        chessBoard.make(Square.of("e2"), Square.of("e3"));
+        chessBoard.unmake();
+
+        assertThatNoException().isThrownBy(() -> chessBoard.checkCanMove(Square.of("e2"), Square.of("e4")));
+    }
+
+    @Test
+    @DisplayName("움직인 적이 없는 체스판은 되돌릴 수 없다")
+    void unmake_noHistory() {
+        Board chessBoard = new Board(new InitialBoardGenerator());
+        assertThatThrownBy(chessBoard::unmake)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("[ERROR] 무를 수가 없어! 아직 아무것도 안 움직였거든~");
+    }
+
+    @Test
+    @DisplayName("초기 체스판에서 흰색은 20가지 수를 둘 수 있다")
+    void generateMoves_initial() {
+        Board chessBoard = new Board(new InitialBoardGenerator());
+        assertThat(chessBoard.generateMoves(Color.WHITE).size()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("초기 체스판의 b1 나이트는 a3, c3 으로만 갈 수 있다")
+    void generateMoves_knight() {
+        Board chessBoard = new Board(new BitboardGenerator(new InitialBoardGenerator()));
+        MoveList moves = chessBoard.generateMoves(Square.of("b1"));
+
+        assertThat(moves.size()).isEqualTo(2);
+        assertThat(moves.contains(PackedMove.parse("b1a3"))).isTrue();
+        assertThat(moves.contains(PackedMove.parse("b1c3"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("생성된 수는 모두 이동 검증을 통과하고, 검증을 통과하는 수는 모두 생성된다")
+    void generateMoves_sameAsCheckCanMove() {
+        Board chessBoard = new Board(new InitialBoardGenerator());
+        chessBoard.make(PackedMove.parse("e2e4"));
+        chessBoard.make(PackedMove.parse("d7d5"));
+        chessBoard.make(PackedMove.parse("f1b5"));
+
+        MoveList moves = chessBoard.generateMoves(Color.BLACK);
+        int legalMoveCount = 0;
+        for (int source = 0; source < 64; source++) {
+            for (int target = 0; target < 64; target++) {
+                legalMoveCount += countIfLegal(chessBoard, Square.of(source), Square.of(target), moves);
+            }
+        }
+        assertThat(legalMoveCount).isEqualTo(moves.size());
+    }
+
+    @Test
+    @DisplayName("복사한 체스판에서 움직여도 원래 체스판은 바뀌지 않는다")
+    void copy_independent() {
+        Board chessBoard = new Board(new BitboardGenerator(new InitialBoardGenerator()));
+        Board copied = chessBoard.copy();
+        copied.make(PackedMove.parse("e2e4"));
+
+        assertThat(chessBoard.getBoard().get(Square.of("e2")).isPawn()).isTrue();
+        assertThat(chessBoard.generateMoves(Square.of("e2")).size()).isEqualTo(2);
+        assertThat(copied.getBoard().get(Square.of("e4")).isPawn()).isTrue();
+    }
+
+    @Test
+    @DisplayName("나이트가 나갔다 돌아오면 처음과 같은 키를 가진다")
+    void zobristKey_transposition() {
+        Board chessBoard = new Board(new BitboardGenerator(new InitialBoardGenerator()));
+        long initialKey = chessBoard.getZobristKey();
+
+        chessBoard.make(PackedMove.parse("g1f3"));
+        chessBoard.make(PackedMove.parse("g8f6"));
+        chessBoard.make(PackedMove.parse("f3g1"));
+        chessBoard.make(PackedMove.parse("f6g8"));
+
+        assertThat(chessBoard.getZobristKey()).isEqualTo(initialKey);
+    }
+
+    @Test
+    @DisplayName("키는 차례와 폰의 두 칸 전진 권리를 구분하고, 되돌리면 복원된다")
+    void zobristKey_sideAndPawnStart() {
+        Board chessBoard = new Board(new InitialBoardGenerator());
+        long initialKey = chessBoard.getZobristKey();
+        chessBoard.make(PackedMove.parse("g1f3"));
+        long afterKnightKey = chessBoard.getZobristKey();
+        chessBoard.make(PackedMove.parse("e7e5"));
+
+        assertThat(afterKnightKey).isNotEqualTo(initialKey);
+        assertThat(chessBoard.getZobristKey())
+                .isEqualTo(new Board(new FenBoardGenerator("rnbqkbnr/pppp1ppp/8/4p3/8/5N2/PPPPPPPP/RNBQKB1R w"))
+                        .getZobristKey());
+
+        chessBoard.unmake();
+        assertThat(chessBoard.getZobristKey()).isEqualTo(afterKnightKey);
+        assertThat(new Board(new InitialBoardGenerator(), Color.BLACK).getZobristKey()).isNotEqualTo(initialKey);
+    }
+
+    @Test
+    @DisplayName("검증 결과는 예외 없이 이유를 코드로 돌려준다")
+    void validate_reasonCodes() {
+        Board chessBoard = new Board(new InitialBoardGenerator());
+        chessBoard.make(PackedMove.parse("e2e4"));
+        chessBoard.make(PackedMove.parse("e7e5"));
+
+        assertThat(chessBoard.validate(PackedMove.parse("g1f3"))).isEqualTo(MoveResult.LEGAL);
+        assertThat(chessBoard.validate(PackedMove.parse("d1d3"))).isEqualTo(MoveResult.ROUTE_BLOCKED);
+        assertThat(chessBoard.validate(PackedMove.parse("d1e2"))).isEqualTo(MoveResult.LEGAL);
+        assertThat(chessBoard.validate(PackedMove.parse("a1a2"))).isEqualTo(MoveResult.SAME_TEAM);
+        assertThat(chessBoard.validate(PackedMove.parse("e4e5"))).isEqualTo(MoveResult.PAWN_ATTACK_DIRECTION);
+        assertThat(chessBoard.validate(PackedMove.parse("b1b3"))).isEqualTo(MoveResult.POSITION_INCAPABLE);
+    }
+
+    @Test
+    @DisplayName("공격 범위는 수를 두고 되돌릴 때마다 막힌 길과 열린 길을 반영한다")
+    void getAttacks_incremental() {
+        Board chessBoard = new Board(new BitboardGenerator(new InitialBoardGenerator()));
+        long e2 = 1L << Square.of("e2").getIndex();
+        long h5 = 1L << Square.of("h5").getIndex();
+
+        assertThat(chessBoard.getAttacks(Color.WHITE) & h5).isZero();
+        chessBoard.make(PackedMove.parse("e2e4"));
+        assertThat(chessBoard.getAttacks(Color.WHITE) & h5).isNotZero();
+        assertThat(chessBoard.getAttacks(Color.WHITE) & e2).isNotZero();
+
+        chessBoard.unmake();
+        assertThat(chessBoard.getAttacks(Color.WHITE) & h5).isZero();
+    }
+
+    @Test
+    @DisplayName("킹이 공격받으면 체크이고, 피할 수 없으면 체크메이트다")
+    void isCheckmate() {
+        Board chessBoard = new Board(new FenBoardGenerator("rnb1kbnr/pppp1ppp/8/4p3/6Pq/5P2/PPPPP2P/RNBQKBNR w"));
+
+        assertThat(chessBoard.isInCheck(Color.WHITE)).isTrue();
+        assertThat(chessBoard.isCheckmate(Color.WHITE)).isTrue();
+        assertThat(chessBoard.isStalemate(Color.WHITE)).isFalse();
+        assertThat(chessBoard.isCheckmate(Color.BLACK)).isFalse();
+    }
+
+    @Test
+    @DisplayName("체크가 아닌데 둘 수 있는 수가 모두 킹을 위험하게 하면 스테일메이트다")
+    void isStalemate() {
+        Board chessBoard = new Board(new FenBoardGenerator("7k/5Q2/6K1/8/8/8/8/8 b"), Color.BLACK);
+
+        assertThat(chessBoard.isInCheck(Color.BLACK)).isFalse();
+        assertThat(chessBoard.isStalemate(Color.BLACK)).isTrue();
+        assertThat(chessBoard.isCheckmate(Color.BLACK)).isFalse();
+    }
+
+    private static int countIfLegal(Board chessBoard, Square source, Square target, MoveList moves) {
+        if (!chessBoard.isRightTurn(source, Color.BLACK)) {
+            return 0;
+        }
+        try {
+            chessBoard.checkCanMove(source, target);
+        } catch (IllegalArgumentException e) {
+            return 0;
+        }
+        assertThat(moves.contains(PackedMove.of(source, target))).isTrue();
+        return 1;
+    }
+
+    private static List<Square> squaresOf(List<Map.Entry<Square, Piece>> pieces) {
+        return pieces.stream()
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,43 @@
+package chess.domain.board;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import chess.domain.ChessGame;
+import chess.domain.GameTurn;
+import chess.domain.piece.Color;
+import chess.domain.position.Square;
+
+class FenBoardGeneratorTest {
+    private static final String INITIAL_FEN = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+    @Test
+    @DisplayName("초기 배치의 FEN 은 초기 체스판과 같은 말을 놓는다")
+    void generate_initial() {
+        ChessGame fenGame = new ChessGame(new FenBoardGenerator(INITIAL_FEN), GameTurn.WHITE);
+        ChessGame initialGame = new ChessGame(new InitialBoardGenerator(), GameTurn.WHITE);
+
+        assertThat(fenGame.getEmojis()).isEqualTo(initialGame.getEmojis());
+    }
+
+    @Test
+    @DisplayName("차례를 읽고, 처음 칸에 있는 폰만 두 칸 전진할 수 있다")
+    void generate_turnAndPawnStart() {
+        FenBoardGenerator boardGenerator = new FenBoardGenerator("4k3/8/8/8/8/4P3/3P4/4K3 b");
+        Board board = new Board(boardGenerator);
+
+        assertThat(boardGenerator.getTurn()).isEqualTo(Color.BLACK);
+        assertThat(board.generateMoves(Square.of("d2")).size()).isEqualTo(2);
+        assertThat(board.generateMoves(Square.of("e3")).size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("칸 수가 맞지 않는 FEN 은 에러를 반환한다")
+    void generate_invalid() {
+        assertThatThrownBy(() -> new FenBoardGenerator("rnbqkbnr/pppppppp/9/8/8/8/PPPPPPPP/RNBQKBNR w").generate())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("[ERROR] FEN 을 읽을 수 없어! 배치와 차례를 확인해줘~");
+    }
+}
@@ -0,0 +1,64 @@
+package chess.domain.board;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import chess.domain.move.PackedMove;
+import chess.domain.piece.Color;
+
+public class PawnHashTableTest {
+
+    @Test
+    @DisplayName("겹친 폰, 고립된 폰, 통과한 폰을 색깔마다 센다")
+    void probe_countsStructure() {
+        Board board = new Board(new FenBoardGenerator("4k3/p7/8/8/3P4/2P5/2P5/4K3 w"));
+
+        PawnStructure structure = new PawnHashTable().probe(board);
+        assertThat(structure.getDoubledPawns(Color.WHITE)).isEqualTo(2);
+        assertThat(structure.getIsolatedPawns(Color.WHITE)).isZero();
+        assertThat(structure.getPassedPawns(Color.WHITE)).isEqualTo(3);
+        assertThat(structure.getDoubledPawns(Color.BLACK)).isZero();
+        assertThat(structure.getIsolatedPawns(Color.BLACK)).isEqualTo(1);
+        assertThat(structure.getPassedPawns(Color.BLACK)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("폰이 움직이지 않았으면 다시 세지 않고 표에서 꺼내며, 적중률에 반영된다")
+    void probe_hitWhenPawnsUnchanged() {
+        Board board = new Board(new InitialBoardGenerator());
+        PawnHashTable pawnTable = new PawnHashTable();
+
+        PawnStructure first = pawnTable.probe(board);
+        board.make(PackedMove.parse("g1f3"));
+        PawnStructure second = pawnTable.probe(board);
+
+        assertThat(second).isSameAs(first);
+        assertThat(pawnTable.getHits()).isEqualTo(1);
+        assertThat(pawnTable.getMisses()).isEqualTo(1);
+        assertThat(pawnTable.getHitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("폰이 움직이면 폰 키가 바뀌고, 되돌리면 원래 키로 돌아간다")
+    void getPawnKey_changesOnlyWithPawns() {
+        Board board = new Board(new InitialBoardGenerator());
+        long initial = board.getPawnKey();
+
+        board.make(PackedMove.parse("b1c3"));
+        assertThat(board.getPawnKey()).isEqualTo(initial);
+        board.make(PackedMove.parse("e7e5"));
+        assertThat(board.getPawnKey()).isNotEqualTo(initial);
+        board.unmake();
+        assertThat(board.getPawnKey()).isEqualTo(initial);
+    }
+
+    @Test
+    @DisplayName("표의 크기가 2의 거듭제곱이 아니면 예외가 발생한다")
+    void create_invalidSize() {
+        assertThatThrownBy(() -> new PawnHashTable(1000))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("[ERROR] 폰 해시 표의 크기는 2의 거듭제곱이어야 해~");
+    }
+}
@@ -0,0 +1,40 @@
+package chess.domain.board;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import chess.domain.piece.PieceType;
+import chess.domain.position.Square;
+
+class SlidingAttacksTest {
+    @Test
+    @DisplayName("빈 체스판의 a1 룩은 14칸을 공격한다")
+    void rook_emptyBoard() {
+        long attacks = SlidingAttacks.of(PieceType.ROOK, Square.of("a1"), 0L);
+        assertThat(Long.bitCount(attacks)).isEqualTo(14);
+    }
+
+    @Test
+    @DisplayName("막는 말이 있는 칸까지만 공격하고, 그 너머는 공격하지 않는다")
+    void rook_blocked() {
+        long occupancy = Bitboards.bit(Square.of("d6"));
+        long attacks = SlidingAttacks.of(PieceType.ROOK, Square.of("d4"), occupancy);
+
+        assertThat(attacks & Bitboards.bit(Square.of("d6"))).isNotZero();
+        assertThat(attacks & Bitboards.bit(Square.of("d7"))).isZero();
+    }
+
+    @Test
+    @DisplayName("퀸의 공격 범위는 룩과 비숍의 공격 범위를 합친 것이다")
+    void queen_isRookAndBishop() {
+        Square source = Square.of("e4");
+        long occupancy = Bitboards.bit(Square.of("g6")) | Bitboards.bit(Square.of("e2"));
+
+        assertThat(SlidingAttacks.of(PieceType.QUEEN, source, occupancy))
+                .isEqualTo(SlidingAttacks.of(PieceType.ROOK, source, occupancy)
+                        | SlidingAttacks.of(PieceType.BISHOP, source, occupancy));
+        assertThat(Long.bitCount(SlidingAttacks.of(PieceType.BISHOP, source, occupancy))).isEqualTo(12);
+    }
+}
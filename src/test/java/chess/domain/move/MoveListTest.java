@@ -0,0 +1,59 @@
+package chess.domain.move;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import chess.domain.position.Square;
+
+public class MoveListTest {
+    @Test
+    @DisplayName("처음 크기보다 많은 수를 담을 수 있다")
+    void add_overCapacity() {
+        MoveList moves = new MoveList(1);
+        moves.add(PackedMove.parse("e2e4"));
+        moves.add(PackedMove.parse("d2d4"));
+
+        assertThat(moves.size()).isEqualTo(2);
+        assertThat(moves.get(1)).isEqualTo(PackedMove.parse("d2d4"));
+    }
+
+    @Test
+    @DisplayName("크기가 0 인 목록에도 수를 담을 수 있다")
+    void add_emptyCapacity() {
+        MoveList moves = new MoveList(0);
+        moves.add(PackedMove.parse("e2e4"));
+
+        assertThat(moves.size()).isEqualTo(1);
+        assertThat(moves.get(0)).isEqualTo(PackedMove.parse("e2e4"));
+    }
+
+    @Test
+    @DisplayName("크기가 음수이면 예외가 발생한다")
+    void create_negativeCapacity() {
+        assertThatThrownBy(() -> new MoveList(-1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("[ERROR] 수 목록의 크기는 0 이상이어야 해~");
+    }
+
+    @Test
+    @DisplayName("플래그와 상관없이 같은 칸의 수를 포함하는지 확인한다")
+    void contains() {
+        MoveList moves = new MoveList();
+        moves.add(PackedMove.of(Square.of("e2"), Square.of("e4"), PackedMove.DOUBLE_STEP));
+
+        assertThat(moves.contains(PackedMove.parse("e2e4"))).isTrue();
+        assertThat(moves.contains(PackedMove.parse("e2e3"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("비우면 다시 빈 목록이 된다")
+    void clear() {
+        MoveList moves = new MoveList();
+        moves.add(PackedMove.parse("e2e4"));
+        moves.clear();
+
+        assertThat(moves.isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,54 @@
+package chess.domain.move;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import chess.domain.piece.PieceType;
+import chess.domain.position.Square;
+
+public class PackedMoveTest {
+    @Test
+    @DisplayName("출발 칸과 도착 칸을 담은 수에서 다시 꺼낼 수 있다")
+    void sourceAndTarget() {
+        int move = PackedMove.of(Square.of("e2"), Square.of("e4"));
+
+        assertThat(PackedMove.source(move)).isEqualTo(Square.of("e2"));
+        assertThat(PackedMove.target(move)).isEqualTo(Square.of("e4"));
+    }
+
+    @Test
+    @DisplayName("승진할 말과 플래그를 담을 수 있다")
+    void promotionAndFlags() {
+        int move = PackedMove.of(Square.of("b7"), Square.of("a8"), PieceType.QUEEN, PackedMove.CAPTURE);
+
+        assertThat(PackedMove.promotion(move)).isEqualTo(PieceType.QUEEN);
+        assertThat(PackedMove.has(move, PackedMove.CAPTURE)).isTrue();
+        assertThat(PackedMove.has(move, PackedMove.DOUBLE_STEP)).isFalse();
+    }
+
+    @Test
+    @DisplayName("플래그를 떼어낸 수는 같은 칸으로 만든 수와 같다")
+    void withoutFlags() {
+        int move = PackedMove.of(Square.of("e2"), Square.of("e4"), PackedMove.DOUBLE_STEP);
+
+        assertThat(PackedMove.withoutFlags(move)).isEqualTo(PackedMove.of(Square.of("e2"), Square.of("e4")));
+    }
+
+    @Test
+    @DisplayName("e2e4 형식의 문자열과 서로 변환할 수 있다")
+    void notation() {
+        int move = PackedMove.parse("g1f3");
+
+        assertThat(PackedMove.toNotation(move)).isEqualTo("g1f3");
+    }
+
+    @Test
+    @DisplayName("형식에 맞지 않는 문자열은 에러를 반환한다")
+    void parse_wrongFormat() {
+        assertThatThrownBy(() -> PackedMove.parse("e2e"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("[ERROR] 수는 e2e4 처럼 입력해야 해~");
+    }
+}
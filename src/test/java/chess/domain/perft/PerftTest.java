@@ -0,0 +1,79 @@
+package chess.domain.perft;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import chess.domain.board.BitboardGenerator;
+import chess.domain.board.Board;
+import chess.domain.board.FenBoardGenerator;
+import chess.domain.board.InitialBoardGenerator;
+import chess.domain.piece.Color;
+
+class PerftTest {
+    private static final String REGRESSION_FILE = "/perft.txt";
+    private static final String COMMENT = "#";
+    private static final String SEPARATOR = ";";
+
+    @Test
+    @DisplayName("저장해 둔 위치들의 perft 노드 수가 맵 체스판과 비트보드 체스판 모두 기대값과 같다")
+    void count_regression() throws IOException {
+        for (String line : readRegressionFile()) {
+            String[] fields = line.split(SEPARATOR);
+            FenBoardGenerator boardGenerator = new FenBoardGenerator(fields[0]);
+            int depth = Integer.parseInt(fields[1]);
+            long expected = Long.parseLong(fields[2]);
+
+            assertThat(new Perft(new Board(boardGenerator)).count(boardGenerator.getTurn(), depth))
+                    .isEqualTo(expected);
+            assertThat(new Perft(new Board(new BitboardGenerator(boardGenerator))).count(boardGenerator.getTurn(), depth))
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("병렬로 나눈 결과는 순차로 나눈 결과와 같다")
+    void divide_parallel() {
+        Perft perft = new Perft(new Board(new InitialBoardGenerator()));
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        Map<String, Long> parallel = perft.divide(Color.WHITE, 3, pool);
+        pool.shutdown();
+
+        assertThat(parallel).isEqualTo(perft.divide(Color.WHITE, 3));
+        assertThat(parallel.get("e2e4")).isEqualTo(600L);
+    }
+
+    @Test
+    @DisplayName("깊이마다 노드 수와 초당 노드 수를 잰다")
+    void measure() {
+        Perft perft = new Perft(new Board(new InitialBoardGenerator()));
+        ForkJoinPool pool = new ForkJoinPool(2);
+
+        List<PerftResult> results = perft.measure(Color.WHITE, 2, pool);
+        pool.shutdown();
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(1).getNodes()).isEqualTo(400L);
+        assertThat(results.get(1).getNodesPerSecond()).isPositive();
+    }
+
+    private List<String> readRegressionFile() throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                getClass().getResourceAsStream(REGRESSION_FILE), StandardCharsets.UTF_8))) {
+            return reader.lines()
+                    .filter(line -> !line.isBlank() && !line.startsWith(COMMENT))
+                    .collect(Collectors.toList());
+        }
+    }
+}
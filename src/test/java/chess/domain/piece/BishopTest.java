@@ -12,7 +12,7 @@ public class BishopTest {
     @DisplayName("비숍을 오른쪽으로 2칸 위쪽으로 2칸 이동 가능하다")
     void canMove_a1_c3() {
         Bishop bishop = new Bishop(Color.BLACK);
-        Boolean canMove = bishop.canMove(new Movement(2, 2), new None(Color.NONE));
+        Boolean canMove = bishop.canMove(Movement.of(2, 2), new None(Color.NONE));
 
         assertThat(canMove).isTrue();
     }
@@ -21,7 +21,7 @@ public class BishopTest {
     @DisplayName("비숍을 왼쪽으로 3칸 아래쪽으로 3칸 이동 가능하다")
     void canMove_d1_a4() {
         Bishop bishop = new Bishop(Color.BLACK);
-        Boolean canMove = bishop.canMove(new Movement(-3, -3), new None(Color.NONE));
+        Boolean canMove = bishop.canMove(Movement.of(-3, -3), new None(Color.NONE));
 
         assertThat(canMove).isTrue();
     }
@@ -30,7 +30,7 @@ public class BishopTest {
     @DisplayName("비숍을 위쪽으로 칸 이동 불가능하다")
     void canMove_a1_a5() {
         Bishop bishop = new Bishop(Color.BLACK);
-        Boolean canMove = bishop.canMove(new Movement(0, 4), new None(Color.NONE));
+        Boolean canMove = bishop.canMove(Movement.of(0, 4), new None(Color.NONE));
 
         assertThat(canMove).isFalse();
     }
@@ -51,4 +51,14 @@ public class InitialPositionPieceGeneratorTest {
     void init_c6() {
         assertThat(InitialPositionPieceGenerator.generatePiece(Column.C, Row.SIX)).isInstanceOf(None.class);
     }
+
+    @Test
+    @DisplayName("같은 칸을 다시 불러오면 미리 만들어 둔 같은 말을 돌려준다")
+    void generatePiece_cached() {
+        assertThat(InitialPositionPieceGenerator.generatePiece(Column.A, Row.ONE))
+                .isSameAs(InitialPositionPieceGenerator.generatePiece(Column.A, Row.ONE))
+                .isSameAs(Piece.of(PieceType.ROOK, Color.WHITE));
+        assertThat(InitialPositionPieceGenerator.getType(Column.E, Row.EIGHT))
+                .isEqualTo(InitialPositionPieceGenerator.KING);
+    }
 }
@@ -12,7 +12,7 @@ public class KingTest {
     @DisplayName("킹을 오른쪽으로 한칸 움직일 수 있다")
     void canMove_a1_a2() {
         King king = new King(Color.BLACK);
-        Boolean canMove = king.canMove(new Movement(0, 1), new None(Color.NONE));
+        Boolean canMove = king.canMove(Movement.of(0, 1), new None(Color.NONE));
 
         assertThat(canMove).isTrue();
     }
@@ -21,7 +21,7 @@ public class KingTest {
     @DisplayName("킹을 위쪽으로 한칸 이동 가능하다")
     void canMove_a1_b1() {
         King king = new King(Color.BLACK);
-        Boolean canMove = king.canMove(new Movement(1, 0), new None(Color.NONE));
+        Boolean canMove = king.canMove(Movement.of(1, 0), new None(Color.NONE));
 
         assertThat(canMove).isTrue();
     }
@@ -30,7 +30,7 @@ public class KingTest {
     @DisplayName("킹을 오른쪽으로 한칸, 위쪽으로 한칸 이동 가능하다")
     void canMove_a1_b2() {
         King king = new King(Color.BLACK);
-        Boolean canMove = king.canMove(new Movement(1, 1), new None(Color.NONE));
+        Boolean canMove = king.canMove(Movement.of(1, 1), new None(Color.NONE));
 
         assertThat(canMove).isTrue();
     }
@@ -39,7 +39,7 @@ public class KingTest {
     @DisplayName("킹을 오른쪽으로 두칸, 위쪽으로 두칸 이동 불가능하다")
     void canMove_a1_c3() {
         King king = new King(Color.BLACK);
-        Boolean canMove = king.canMove(new Movement(2, 2), new None(Color.NONE));
+        Boolean canMove = king.canMove(Movement.of(2, 2), new None(Color.NONE));
 
         assertThat(canMove).isFalse();
     }
@@ -6,13 +6,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import chess.domain.position.Movement;
+import chess.domain.position.Square;
 
 public class PawnTest {
     @Test
     @DisplayName("화이트 폰을 위쪽으로 한칸 이동 가능하다")
     void canMove_a1_a2() {
         Pawn pawn = new Pawn(Color.WHITE);
-        boolean canMove = pawn.canMove(new Movement(0, 1), new None(Color.NONE));
+        boolean canMove = pawn.canMove(Square.of("a3"), Movement.of(0, 1), new None(Color.NONE));
 
         assertThat(canMove).isTrue();
     }
@@ -21,7 +22,7 @@ public class PawnTest {
     @DisplayName("화이트폰을 오른쪽으로 한칸, 위쪽으로 두칸 이동 불가능하다")
     void canMove_a1_b3() {
         Pawn pawn = new Pawn(Color.WHITE);
-        boolean canMove = pawn.canMove(new Movement(1, 2), new None(Color.NONE));
+        boolean canMove = pawn.canMove(Square.of("a2"), Movement.of(1, 2), new None(Color.NONE));
 
         assertThat(canMove).isFalse();
     }
@@ -30,7 +31,7 @@ public class PawnTest {
     @DisplayName("화이트폰을 위쪽으로 세칸 이동 불가능하다")
     void canMove_a1_a4() {
         Pawn pawn = new Pawn(Color.WHITE);
-        boolean canMove = pawn.canMove(new Movement(0, 3), new None(Color.NONE));
+        boolean canMove = pawn.canMove(Square.of("a2"), Movement.of(0, 3), new None(Color.NONE));
 
         assertThat(canMove).isFalse();
     }
@@ -39,7 +40,7 @@ public class PawnTest {
     @DisplayName("화이트폰의 첫 이동이면 위쪽으로 두칸 이동 가능하다")
     void canMove_a1_a3() {
         Pawn pawn = new Pawn(Color.WHITE);
-        boolean canMove = pawn.canMove(new Movement(0, 2), new None(Color.NONE));
+        boolean canMove = pawn.canMove(Square.of("a2"), Movement.of(0, 2), new None(Color.NONE));
 
         assertThat(canMove).isTrue();
     }
@@ -48,8 +49,7 @@ public class PawnTest {
     @DisplayName("화이트폰의 첫 이동이 아니면 위로 두 칸 이동 불가능하다")
     void canMove_a2_a4() {
         Pawn pawn = new Pawn(Color.WHITE);
-        boolean canMove = pawn.canMove(new Movement(0, 2), new None(Color.NONE));
-        canMove = pawn.canMove(new Movement(0, 2), new None(Color.NONE));
+        boolean canMove = pawn.canMove(Square.of("a3"), Movement.of(0, 2), new None(Color.NONE));
 
         assertThat(canMove).isFalse();
     }
@@ -58,7 +58,7 @@ public class PawnTest {
     @DisplayName("불랙폰을 아래쪽으로 한칸 이동 가능하다")
     void canMove_a8_a7() {
         Pawn pawn = new Pawn(Color.BLACK);
-        boolean canMove = pawn.canMove(new Movement(0, -1), new None(Color.NONE));
+        boolean canMove = pawn.canMove(Square.of("a6"), Movement.of(0, -1), new None(Color.NONE));
 
         assertThat(canMove).isTrue();
     }
@@ -67,7 +67,7 @@ public class PawnTest {
     @DisplayName("블랙폰의 첫 이동이면 아래쪽으로 두칸 이동 가능하다")
     void canMove_a8_a6() {
         Pawn pawn = new Pawn(Color.BLACK);
-        boolean canMove = pawn.canMove(new Movement(0, -2), new None(Color.NONE));
+        boolean canMove = pawn.canMove(Square.of("a7"), Movement.of(0, -2), new None(Color.NONE));
 
         assertThat(canMove).isTrue();
     }
@@ -76,7 +76,7 @@ public class PawnTest {
     @DisplayName("폰은 공격을 위해 대각선으로 한칸 이동할 수 있다")
     public void moveDiagonalToAttack() {
         Pawn pawn = new Pawn(Color.BLACK);
-        boolean canMove = pawn.canMove(new Movement(-1, -1), new Pawn(Color.WHITE));
+        boolean canMove = pawn.canMove(Square.of("b6"), Movement.of(-1, -1), new Pawn(Color.WHITE));
 
         assertThat(canMove).isTrue();
     }
@@ -85,9 +85,27 @@ public class PawnTest {
     @DisplayName("폰은 공격이 아니면 대각선으로 한칸 이동할 없다")
     public void cantMoveDiagonalGeneral() {
         Pawn pawn = new Pawn(Color.BLACK);
-        boolean canMove = pawn.canMove(new Movement(-1, -1), new None(Color.NONE));
+        boolean canMove = pawn.canMove(Square.of("b6"), Movement.of(-1, -1), new None(Color.NONE));
 
         assertThat(canMove).isFalse();
     }
 
+    @Test
+    @DisplayName("폰의 첫 이동 여부는 폰이 서 있는 가로줄로 정해진다")
+    void isStart_byRow() {
+        Pawn whitePawn = new Pawn(Color.WHITE);
+        Pawn blackPawn = new Pawn(Color.BLACK);
+
+        assertThat(whitePawn.isStart(Square.of("e2"))).isTrue();
+        assertThat(whitePawn.isStart(Square.of("e3"))).isFalse();
+        assertThat(blackPawn.isStart(Square.of("e7"))).isTrue();
+        assertThat(blackPawn.isStart(Square.of("e2"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 종류, 같은 색의 말은 하나의 인스턴스를 공유한다")
+    void of_shared() {
+        assertThat(Piece.of(PieceType.PAWN, Color.WHITE)).isSameAs(Piece.createByTypeAndColor("PAWN", "WHITE"));
+        assertThat(Piece.none()).isSameAs(Piece.createByTypeAndColor("NONE", "NONE"));
+    }
 }
@@ -12,7 +12,7 @@ public class QueenTest {
     @DisplayName("퀸을 위쪽으로 한칸 이동 가능하다")
     void canMove_a1_a2() {
         Queen queen = new Queen(Color.BLACK);
-        Boolean canMove = queen.canMove(new Movement(0, 1), new None(Color.NONE));
+        Boolean canMove = queen.canMove(Movement.of(0, 1), new None(Color.NONE));
 
         assertThat(canMove).isTrue();
     }
@@ -21,7 +21,7 @@ public class QueenTest {
     @DisplayName("퀸을 오른쪽으로 한칸 이동 가능하다")
     void canMove_a1_b1() {
         Queen queen = new Queen(Color.BLACK);
-        Boolean canMove = queen.canMove(new Movement(1, 0), new None(Color.NONE));
+        Boolean canMove = queen.canMove(Movement.of(1, 0), new None(Color.NONE));
 
         assertThat(canMove).isTrue();
     }
@@ -30,7 +30,7 @@ public class QueenTest {
     @DisplayName("퀸을 오른쪽으로 한칸, 위쪽으로 한칸 이동 가능하다")
     void canMove_a1_b2() {
         Queen queen = new Queen(Color.BLACK);
-        Boolean canMove = queen.canMove(new Movement(1, 1), new None(Color.NONE));
+        Boolean canMove = queen.canMove(Movement.of(1, 1), new None(Color.NONE));
 
         assertThat(canMove).isTrue();
     }
@@ -39,7 +39,7 @@ public class QueenTest {
     @DisplayName("퀸을 오른쪽으로 두칸, 위쪽으로 두칸 이동 가능하다")
     void canMove_a1_c3() {
         Queen queen = new Queen(Color.BLACK);
-        Boolean canMove = queen.canMove(new Movement(2, 2), new None(Color.NONE));
+        Boolean canMove = queen.canMove(Movement.of(2, 2), new None(Color.NONE));
 
         assertThat(canMove).isTrue();
     }
@@ -48,7 +48,7 @@ public class QueenTest {
     @DisplayName("퀸은 오른쪽으로 2칸 위로 3칸 이동 불가능하다다")
     void canMove_a1_c4() {
         Queen queen = new Queen(Color.BLACK);
-        Boolean canMove = queen.canMove(new Movement(2, 3), new None(Color.NONE));
+        Boolean canMove = queen.canMove(Movement.of(2, 3), new None(Color.NONE));
 
         assertThat(canMove).isFalse();
     }
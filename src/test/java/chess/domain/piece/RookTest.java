@@ -12,7 +12,7 @@ public class RookTest {
     @DisplayName("룩은 위쪽으로 2칸 이동 가능하다")
     void canMove_a1_a3() {
         Rook rook = new Rook(Color.BLACK);
-        Boolean canMove = rook.canMove(new Movement(0, 2), new None(Color.NONE));
+        Boolean canMove = rook.canMove(Movement.of(0, 2), new None(Color.NONE));
 
         assertThat(canMove).isTrue();
     }
@@ -21,7 +21,7 @@ public class RookTest {
     @DisplayName("룩은 오른쪽으로 1칸 위로 2칸 이동 불가능하다")
     void canMove_a1_b3() {
         Rook rook = new Rook(Color.BLACK);
-        Boolean canMove = rook.canMove(new Movement(1, 2), new None(Color.NONE));
+        Boolean canMove = rook.canMove(Movement.of(1, 2), new None(Color.NONE));
 
         assertThat(canMove).isFalse();
     }
@@ -30,7 +30,7 @@ public class RookTest {
     @DisplayName("룩은 오른쪽으로 1칸 이동 가능하다")
     void canMove_a1_b1() {
         Rook rook = new Rook(Color.BLACK);
-        Boolean canMove = rook.canMove(new Movement(1, 0), new None(Color.NONE));
+        Boolean canMove = rook.canMove(Movement.of(1, 0), new None(Color.NONE));
 
         assertThat(canMove).isTrue();
     }
@@ -39,7 +39,7 @@ public class RookTest {
     @DisplayName("룩은 왼쪽으로 2칸 이동 가능하다")
     void canMove_a3_a1() {
         Rook rook = new Rook(Color.BLACK);
-        Boolean canMove = rook.canMove(new Movement(-2, 0), new None(Color.NONE));
+        Boolean canMove = rook.canMove(Movement.of(-2, 0), new None(Color.NONE));
 
         assertThat(canMove).isTrue();
     }
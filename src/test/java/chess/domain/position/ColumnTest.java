@@ -17,4 +17,12 @@ public class ColumnTest {
     void find() {
         assertThat(Column.find('e')).isEqualTo(Column.E);
     }
+
+    @Test
+    @DisplayName("범위를 벗어난 값이 입력되면 에러를 반환한다")
+    void find_outOfBound() {
+        assertThatThrownBy(() -> Column.find('i'))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("[BUG] 체스판 범위를 벗어났습니다.");
+    }
 }
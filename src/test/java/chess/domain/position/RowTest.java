@@ -17,4 +17,12 @@ public class RowTest {
     void find() {
         assertThat(Row.find('3')).isEqualTo(Row.THREE);
     }
+
+    @Test
+    @DisplayName("범위를 벗어난 값이 입력되면 에러를 반환한다")
+    void find_outOfBound() {
+        assertThatThrownBy(() -> Row.find('9'))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("[BUG] 체스판 범위를 벗어났습니다.");
+    }
 }
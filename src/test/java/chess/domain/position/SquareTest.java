@@ -9,14 +9,47 @@ public class SquareTest {
     @Test
     @DisplayName("같은 파일과 같은 랭크를 가진 스퀘어들은 동등하다")
     void equals() {
-        Square square1 = new Square("h3");
-        Square square2 = new Square("h3");
+        Square square1 = Square.of("h3");
+        Square square2 = Square.of("h3");
         assertThat(square1.equals(square2)).isTrue();
     }
 
     @Test
     @DisplayName("String으로 생성된 스퀘어가 올바른 파일과 랭크를 가진다")
     void makeSquareFromString() {
-        assertThat(new Square("h3")).isEqualTo(new Square(Column.H, Row.THREE));
+        assertThat(Square.of("h3")).isEqualTo(Square.of(Column.H, Row.THREE));
+    }
+
+    @Test
+    @DisplayName("같은 위치의 스퀘어는 매번 같은 인스턴스를 반환한다")
+    void sameInstance() {
+        assertThat(Square.of("e4")).isSameAs(Square.of(5, 4));
+    }
+
+    @Test
+    @DisplayName("대문자로 입력된 위치도 같은 스퀘어를 반환한다")
+    void makeSquareFromUpperCase() {
+        assertThat(Square.of("E4")).isSameAs(Square.of("e4"));
+    }
+
+    @Test
+    @DisplayName("스퀘어에 이동을 더하면 미리 만들어진 스퀘어를 반환한다")
+    void add() {
+        assertThat(Square.of("a1").add(Movement.of(1, 1))).isSameAs(Square.of("b2"));
+    }
+
+    @Test
+    @DisplayName("a1의 인덱스는 0, h8의 인덱스는 63이다")
+    void getIndex() {
+        assertThat(Square.of("a1").getIndex()).isEqualTo(0);
+        assertThat(Square.of("h8").getIndex()).isEqualTo(63);
+    }
+
+    @Test
+    @DisplayName("체스판을 벗어나는 이동은 에러를 반환한다")
+    void addOutOfBoard() {
+        assertThatThrownBy(() -> Square.of("h8").add(Movement.of(1, 0)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("[BUG] 체스판 범위를 벗어났습니다.");
     }
 }
@@ -0,0 +1,80 @@
+package chess.engine;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import chess.domain.ChessGame;
+import chess.domain.GameTurn;
+import chess.domain.board.FenBoardGenerator;
+import chess.domain.board.InitialBoardGenerator;
+import chess.domain.move.PackedMove;
+
+public class AlphaBetaSearchTest {
+
+    @Test
+    @DisplayName("한 수 만에 메이트할 수 있으면 그 수를 찾는다")
+    void search_mateInOne() {
+        ChessGame chessGame = new ChessGame(new FenBoardGenerator("k7/8/1K6/8/8/8/8/7R w"), GameTurn.WHITE);
+        SearchResult result = new AlphaBetaSearch().search(chessGame, SearchLimits.depth(3));
+
+        assertThat(result.getBestMoveNotation()).isEqualTo("h1h8");
+        chessGame.move(result.getBestMove());
+        assertThat(chessGame.getTurn()).isEqualTo(GameTurn.CHECKMATE);
+    }
+
+    @Test
+    @DisplayName("지켜지지 않은 퀸은 잡는다")
+    void search_captureHangingQueen() {
+        ChessGame chessGame = new ChessGame(new FenBoardGenerator("4k3/8/8/3q4/8/8/3R4/4K3 w"), GameTurn.WHITE);
+        SearchResult result = new AlphaBetaSearch().search(chessGame, SearchLimits.depth(4));
+
+        assertThat(result.getBestMoveNotation()).isEqualTo("d2d5");
+        assertThat(result.getScore()).isPositive();
+    }
+
+    @Test
+    @DisplayName("찾은 수는 게임에서 그대로 둘 수 있다")
+    void search_bestMoveAcceptedByGame() {
+        ChessGame chessGame = new ChessGame(new InitialBoardGenerator(), GameTurn.WHITE);
+        AlphaBetaSearch search = new AlphaBetaSearch();
+        for (int ply = 0; ply < 6; ply++) {
+            SearchResult result = search.search(chessGame, SearchLimits.depth(3));
+            assertThat(result.hasBestMove()).isTrue();
+            chessGame.move(result.getBestMove());
+        }
+        assertThat(chessGame.getTurn()).isEqualTo(GameTurn.WHITE);
+    }
+
+    @Test
+    @DisplayName("노드 한도를 넘기 전에 탐색을 멈추고, 끝낸 깊이의 수를 돌려준다")
+    void search_nodeLimit() {
+        ChessGame chessGame = new ChessGame(new InitialBoardGenerator(), GameTurn.WHITE);
+        SearchResult result = new AlphaBetaSearch().search(chessGame, SearchLimits.nodes(5_000));
+
+        assertThat(result.getNodes()).isLessThanOrEqualTo(5_000 + 1_024);
+        assertThat(result.hasBestMove()).isTrue();
+        assertThat(chessGame.getBoard().validate(result.getBestMove()).isLegal()).isTrue();
+    }
+
+    @Test
+    @DisplayName("상대가 킹을 공격받는 채로 두면 킹을 잡는다")
+    void search_captureKing() {
+        ChessGame chessGame = new ChessGame(new FenBoardGenerator("4k3/8/8/8/8/8/8/4RK2 w"), GameTurn.WHITE);
+        SearchResult result = new AlphaBetaSearch().search(chessGame, SearchLimits.depth(2));
+
+        assertThat(result.getBestMove()).isEqualTo(PackedMove.parse("e1e8") | PackedMove.CAPTURE);
+    }
+
+    @Test
+    @DisplayName("끝난 게임은 탐색할 수 없다")
+    void search_finished() {
+        ChessGame chessGame = new ChessGame(new FenBoardGenerator("k7/8/1K6/8/8/8/8/7R w"), GameTurn.WHITE);
+        chessGame.move(PackedMove.parse("h1h8"));
+
+        assertThatThrownBy(() -> new AlphaBetaSearch().search(chessGame, SearchLimits.depth(1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("[ERROR] 이미 끝난 게임이야~");
+    }
+}
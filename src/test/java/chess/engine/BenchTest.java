@@ -0,0 +1,34 @@
+package chess.engine;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class BenchTest {
+
+    @Test
+    @DisplayName("같은 깊이로 다시 돌리면 노드 수와 서명이 같다")
+    void run_deterministic() {
+        BenchResult first = new Bench().run(3);
+        BenchResult second = new Bench().run(3);
+
+        assertThat(first.getResults()).hasSize(Bench.getPositions().size());
+        assertThat(second.getNodes()).isEqualTo(first.getNodes());
+        assertThat(second.getSignature()).isEqualTo(first.getSignature());
+    }
+
+    @Test
+    @DisplayName("깊이가 달라지면 서명도 달라진다")
+    void run_signatureChangesWithSearch() {
+        assertThat(new Bench().run(2).getSignature()).isNotEqualTo(new Bench().run(3).getSignature());
+    }
+
+    @Test
+    @DisplayName("벤치 깊이가 1 보다 작으면 예외가 발생한다")
+    void run_invalidDepth() {
+        assertThatThrownBy(() -> new Bench().run(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("[ERROR] 벤치 깊이는 1 이상이어야 해~");
+    }
+}
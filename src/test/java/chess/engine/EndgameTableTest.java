@@ -0,0 +1,98 @@
+package chess.engine;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import chess.domain.ChessGame;
+import chess.domain.GameTurn;
+import chess.domain.board.Board;
+import chess.domain.board.FenBoardGenerator;
+import chess.domain.piece.Color;
+
+public class EndgameTableTest {
+    private static EndgameTable queenTable;
+
+    private static synchronized EndgameTable queenTable() {
+        if (queenTable == null) {
+            queenTable = new EndgameTableGenerator(2).generate(EndgameMaterial.KQK);
+        }
+        return queenTable;
+    }
+
+    @Test
+    @DisplayName("한 수 메이트는 1 반수 만에 이기고, 메이트 당한 쪽은 0 반수 만에 진다")
+    void probe_mate() {
+        Board mateInOne = new Board(new FenBoardGenerator("k7/8/1K6/8/8/8/7Q/8 w"));
+        Board mated = new Board(new FenBoardGenerator("k6Q/8/1K6/8/8/8/8/8 b"));
+
+        EndgameResult win = queenTable().probe(mateInOne, Color.WHITE);
+        EndgameResult loss = queenTable().probe(mated, Color.BLACK);
+        assertThat(win.isWin()).isTrue();
+        assertThat(win.getPlies()).isEqualTo(1);
+        assertThat(loss.isLoss()).isTrue();
+        assertThat(loss.getPlies()).isZero();
+    }
+
+    @Test
+    @DisplayName("흑이 강한 쪽이어도 위아래를 뒤집어 같은 결과를 찾는다")
+    void probe_flippedColor() {
+        Board board = new Board(new FenBoardGenerator("8/7q/8/8/8/1k6/8/K7 b"));
+
+        EndgameResult result = queenTable().probe(board, Color.BLACK);
+        assertThat(result.isWin()).isTrue();
+        assertThat(result.getPlies()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("지켜지지 않은 퀸을 킹이 잡을 수 있으면 무승부다")
+    void probe_hangingQueenIsDraw() {
+        Board board = new Board(new FenBoardGenerator("7K/8/8/8/8/8/1Q6/k7 b"));
+
+        assertThat(queenTable().probe(board, Color.BLACK).isDraw()).isTrue();
+    }
+
+    @Test
+    @DisplayName("재료 구성이 다르거나 있을 수 없는 위치는 결과가 없다")
+    void probe_notCovered() {
+        Board rook = new Board(new FenBoardGenerator("k7/8/1K6/8/8/8/8/7R w"));
+        Board illegal = new Board(new FenBoardGenerator("k7/8/1K6/8/8/8/8/7Q w"));
+
+        assertThat(queenTable().probe(rook, Color.WHITE).isKnown()).isFalse();
+        assertThat(queenTable().probe(illegal, Color.WHITE).isKnown()).isFalse();
+    }
+
+    @Test
+    @DisplayName("파일로 적었다가 읽어도 같은 결과를 돌려준다")
+    void writeAndRead() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        queenTable().write(output);
+        EndgameTable read = EndgameTable.read(new ByteArrayInputStream(output.toByteArray()));
+        Board board = new Board(new FenBoardGenerator("8/8/3k4/8/8/8/8/Q3K3 w"));
+
+        assertThat(read.getMaterial()).isEqualTo(EndgameMaterial.KQK);
+        assertThat(read.probe(board, Color.WHITE).getPlies()).isEqualTo(queenTable().probe(board, Color.WHITE).getPlies());
+        assertThatThrownBy(() -> EndgameTable.read(new ByteArrayInputStream(new byte[16])))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("[ERROR] 테이블베이스 파일의 형식이 맞지 않아~");
+    }
+
+    @Test
+    @DisplayName("표에 있는 끝내기는 가장 빠른 메이트 수를 두고, 없으면 탐색한다")
+    void search_tablebaseOrFallback() {
+        TablebaseEngine engine = new TablebaseEngine(EndgameTables.of(queenTable()), new AlphaBetaSearch());
+        ChessGame endgame = new ChessGame(new FenBoardGenerator("k7/8/1K6/8/8/8/7Q/8 w"), GameTurn.WHITE);
+        ChessGame rookEndgame = new ChessGame(new FenBoardGenerator("k7/8/1K6/8/8/8/8/7R w"), GameTurn.WHITE);
+
+        SearchResult result = engine.search(endgame, SearchLimits.depth(1));
+        assertThat(result.getNodes()).isZero();
+        endgame.move(result.getBestMove());
+        assertThat(endgame.getTurn()).isEqualTo(GameTurn.CHECKMATE);
+        assertThat(engine.search(rookEndgame, SearchLimits.depth(3)).getBestMoveNotation()).isEqualTo("h1h8");
+    }
+}
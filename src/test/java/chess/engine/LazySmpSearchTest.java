@@ -0,0 +1,43 @@
+package chess.engine;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import chess.domain.ChessGame;
+import chess.domain.GameTurn;
+import chess.domain.board.FenBoardGenerator;
+import chess.domain.board.InitialBoardGenerator;
+
+public class LazySmpSearchTest {
+
+    @Test
+    @DisplayName("여러 스레드로 탐색해도 한 수 메이트를 찾는다")
+    void search_mateInOne() {
+        ChessGame chessGame = new ChessGame(new FenBoardGenerator("k7/8/1K6/8/8/8/8/7R w"), GameTurn.WHITE);
+        SearchResult result = new LazySmpSearch(4).search(chessGame, SearchLimits.depth(4));
+
+        assertThat(result.getBestMoveNotation()).isEqualTo("h1h8");
+    }
+
+    @Test
+    @DisplayName("스레드 수는 요청마다 정할 수 있고, 노드 한도는 모든 스레드를 합쳐 지킨다")
+    void search_threadsPerRequest() {
+        ChessGame chessGame = new ChessGame(new InitialBoardGenerator(), GameTurn.WHITE);
+        LazySmpSearch search = new LazySmpSearch(1);
+        SearchResult result = search.search(chessGame, SearchLimits.nodes(20_000), 3);
+
+        assertThat(search.getThreads()).isEqualTo(1);
+        assertThat(result.getNodes()).isLessThanOrEqualTo(20_000 + 3 * 1_024);
+        assertThat(chessGame.getBoard().validate(result.getBestMove()).isLegal()).isTrue();
+    }
+
+    @Test
+    @DisplayName("스레드 수는 1 이상이어야 한다")
+    void search_invalidThreads() {
+        assertThatThrownBy(() -> new LazySmpSearch(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("[ERROR] 스레드 수는 1 이상이어야 해~");
+    }
+}
@@ -0,0 +1,54 @@
+package chess.engine;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import chess.domain.ChessGame;
+import chess.domain.GameTurn;
+import chess.domain.board.FenBoardGenerator;
+import chess.domain.board.InitialBoardGenerator;
+
+public class MonteCarloSearchTest {
+
+    @Test
+    @DisplayName("여러 스레드로 플레이아웃을 돌려 한 수 메이트를 찾는다")
+    void search_mateInOne() {
+        ChessGame chessGame = new ChessGame(new FenBoardGenerator("k7/8/1K6/8/8/8/8/7R w"), GameTurn.WHITE);
+        SearchResult result = new MonteCarloSearch(2).search(chessGame, SearchLimits.nodes(20_000));
+
+        assertThat(result.getBestMoveNotation()).isEqualTo("h1h8");
+        chessGame.move(result.getBestMove());
+        assertThat(chessGame.getTurn()).isEqualTo(GameTurn.CHECKMATE);
+    }
+
+    @Test
+    @DisplayName("지켜지지 않은 퀸은 잡는다")
+    void search_captureHangingQueen() {
+        ChessGame chessGame = new ChessGame(new FenBoardGenerator("4k3/8/8/3q4/8/8/3R4/4K3 w"), GameTurn.WHITE);
+        SearchResult result = new MonteCarloSearch(2).search(chessGame, SearchLimits.nodes(20_000));
+
+        assertThat(result.getBestMoveNotation()).isEqualTo("d2d5");
+    }
+
+    @Test
+    @DisplayName("플레이아웃 수 한도를 지키고, 찾은 수는 게임에서 둘 수 있다")
+    void search_playoutLimit() {
+        ChessGame chessGame = new ChessGame(new InitialBoardGenerator(), GameTurn.WHITE);
+        SearchResult result = new MonteCarloSearch(2).search(chessGame, SearchLimits.nodes(500));
+
+        assertThat(result.getNodes()).isBetween(500L, 501L);
+        assertThat(chessGame.getBoard().validate(result.getBestMove()).isLegal()).isTrue();
+    }
+
+    @Test
+    @DisplayName("시간이나 노드 한도 없이 깊이만 정하면 탐색할 수 없다")
+    void search_withoutBudget() {
+        ChessGame chessGame = new ChessGame(new InitialBoardGenerator(), GameTurn.WHITE);
+
+        assertThatThrownBy(() -> new MonteCarloSearch(1).search(chessGame, SearchLimits.depth(3)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("[ERROR] MCTS 는 시간이나 노드 한도를 정해줘야 해~");
+    }
+}
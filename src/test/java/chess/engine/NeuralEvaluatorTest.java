@@ -0,0 +1,74 @@
+package chess.engine;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import chess.domain.board.Board;
+import chess.domain.board.FenBoardGenerator;
+import chess.domain.board.InitialBoardGenerator;
+import chess.domain.move.PackedMove;
+import chess.domain.piece.Color;
+
+public class NeuralEvaluatorTest {
+
+    @Test
+    @DisplayName("두고 무를 때 갱신한 누산기는 처음부터 다시 계산한 값과 같다")
+    void evaluate_incrementalSameAsRefresh() {
+        Board board = new Board(new InitialBoardGenerator());
+        NeuralEvaluator incremental = new NeuralEvaluator();
+        incremental.attach(board);
+        board.make(PackedMove.parse("e2e4"));
+        board.make(PackedMove.parse("d7d5"));
+        board.make(PackedMove.parse("e4d5") | PackedMove.CAPTURE);
+
+        NeuralEvaluator refreshed = new NeuralEvaluator();
+        refreshed.refresh(board);
+        assertThat(incremental.evaluate(board, Color.BLACK)).isEqualTo(refreshed.evaluate(board, Color.BLACK));
+
+        board.unmake();
+        board.unmake();
+        board.unmake();
+        assertThat(incremental.evaluate(board, Color.WHITE)).isZero();
+    }
+
+    @Test
+    @DisplayName("내장 가중치는 기물 점수와 겹폰 감점을 센티폰으로 평가한다")
+    void evaluate_bundledWeights() {
+        Board queenDown = new Board(new FenBoardGenerator("4k3/8/8/3q4/8/8/3R4/4K3 w"));
+        NeuralEvaluator evaluator = new NeuralEvaluator();
+        evaluator.attach(queenDown);
+        assertThat(evaluator.evaluate(queenDown, Color.WHITE)).isEqualTo(-400);
+
+        Board doubledPawns = new Board(new FenBoardGenerator("4k3/8/8/8/8/P7/P7/4K3 w"));
+        evaluator.attach(doubledPawns);
+        assertThat(evaluator.evaluate(doubledPawns, Color.WHITE)).isBetween(100, 110);
+    }
+
+    @Test
+    @DisplayName("가중치는 파일로 쓰고 다시 읽어도 같은 평가를 한다")
+    void weights_writeAndRead() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        HandcraftedNetwork.create().write(output);
+        NetworkWeights weights = NetworkWeights.read(new ByteArrayInputStream(output.toByteArray()));
+
+        Board board = new Board(new FenBoardGenerator("4k3/8/8/3q4/8/8/3R4/4K3 w"));
+        NeuralEvaluator evaluator = new NeuralEvaluator(weights);
+        evaluator.attach(board);
+        assertThat(weights.getHiddenSize()).isEqualTo(HandcraftedNetwork.HIDDEN_SIZE);
+        assertThat(evaluator.evaluate(board, Color.BLACK)).isEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 가중치 파일은 읽을 수 없다")
+    void weights_invalidFormat() {
+        assertThatThrownBy(() -> NetworkWeights.read(new ByteArrayInputStream(new byte[16])))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("[ERROR] 신경망 가중치 파일의 형식이 맞지 않아~");
+    }
+}
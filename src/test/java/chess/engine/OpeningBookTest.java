@@ -0,0 +1,81 @@
+package chess.engine;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import chess.domain.ChessGame;
+import chess.domain.GameTurn;
+import chess.domain.board.FenBoardGenerator;
+import chess.domain.board.InitialBoardGenerator;
+import chess.domain.move.PackedMove;
+
+public class OpeningBookTest {
+    private static final List<String> GAMES = List.of(
+            "e2e4 e7e5 g1f3 b8c6",
+            "e2e4 c7c5 g1f3 d7d6",
+            "d2d4 d7d5 c2c4 e7e6");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("가장 많이 둔 수를 돌려준다")
+    void probe_mostPlayedMove() throws IOException {
+        OpeningBook book = buildBook(GAMES);
+        ChessGame chessGame = new ChessGame(new InitialBoardGenerator(), GameTurn.WHITE);
+
+        assertThat(PackedMove.toNotation(book.probe(chessGame.getZobristKey()))).isEqualTo("e2e4");
+        chessGame.move(PackedMove.parse("e2e4"));
+        assertThat(PackedMove.toNotation(book.probe(chessGame.getZobristKey(), new SplittableRandom(1))))
+                .isIn("e7e5", "c7c5");
+    }
+
+    @Test
+    @DisplayName("북에 없는 위치는 수가 없다")
+    void probe_unknownPosition() throws IOException {
+        OpeningBook book = buildBook(GAMES);
+        ChessGame chessGame = new ChessGame(new FenBoardGenerator("4k3/8/8/8/8/8/8/4K3 w"), GameTurn.WHITE);
+
+        assertThat(book.size()).isEqualTo(11);
+        assertThat(book.probe(chessGame.getZobristKey())).isEqualTo(SearchResult.NO_MOVE);
+        assertThat(book.probe(chessGame.getZobristKey(), new SplittableRandom(1))).isEqualTo(SearchResult.NO_MOVE);
+    }
+
+    @Test
+    @DisplayName("북 형식이 아닌 파일은 열 수 없다")
+    void open_invalidFile() throws IOException {
+        Path path = Files.write(directory.resolve("invalid.bin"), new byte[] {1, 2, 3});
+
+        assertThatThrownBy(() -> OpeningBook.open(path))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("[ERROR] 오프닝 북 파일의 형식이 맞지 않아~");
+    }
+
+    @Test
+    @DisplayName("북에 있으면 북의 수를, 없으면 탐색한 수를 둔다")
+    void search_bookOrFallback() throws IOException {
+        BookEngine engine = new BookEngine(buildBook(GAMES), new AlphaBetaSearch());
+        ChessGame opening = new ChessGame(new InitialBoardGenerator(), GameTurn.WHITE);
+        ChessGame outOfBook = new ChessGame(new FenBoardGenerator("k7/8/1K6/8/8/8/8/7R w"), GameTurn.WHITE);
+
+        SearchResult bookResult = engine.search(opening, SearchLimits.depth(3));
+        assertThat(bookResult.getBestMoveNotation()).isEqualTo("e2e4");
+        assertThat(bookResult.getNodes()).isZero();
+        assertThat(engine.search(outOfBook, SearchLimits.depth(3)).getBestMoveNotation()).isEqualTo("h1h8");
+    }
+
+    private OpeningBook buildBook(List<String> games) throws IOException {
+        Path path = directory.resolve("book.bin");
+        new OpeningBookBuilder(4).addGames(games).write(path);
+        return OpeningBook.open(path);
+    }
+}
@@ -0,0 +1,26 @@
+package chess.engine;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import chess.domain.board.Board;
+import chess.domain.board.InitialBoardGenerator;
+import chess.domain.piece.Color;
+
+public class SimpleEvaluatorTest {
+
+    @Test
+    @DisplayName("한 번 평가할 때 폰 해시 표는 한 번만 찾는다")
+    void evaluate_probesOnce() {
+        SimpleEvaluator evaluator = new SimpleEvaluator();
+        Board board = new Board(new InitialBoardGenerator());
+
+        evaluator.evaluate(board, Color.WHITE);
+        evaluator.evaluate(board, Color.BLACK);
+
+        assertThat(evaluator.getPawnTable().getMisses()).isEqualTo(1);
+        assertThat(evaluator.getPawnTable().getHits()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,45 @@
+package chess.engine;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import chess.domain.move.PackedMove;
+
+public class TranspositionTableTest {
+
+    @Test
+    @DisplayName("저장한 수와 점수, 깊이, 경계를 그대로 꺼낸다")
+    void probe_stored() {
+        TranspositionTable table = new TranspositionTable(1);
+        int move = PackedMove.parse("e2e4") | PackedMove.DOUBLE_STEP;
+        table.store(0x1234_5678_9ABC_DEF0L, move, -Scores.MATE + 3, 7, TranspositionTable.UPPER);
+
+        long entry = table.probe(0x1234_5678_9ABC_DEF0L);
+        assertThat(TranspositionTable.isHit(entry)).isTrue();
+        assertThat(TranspositionTable.move(entry)).isEqualTo(move);
+        assertThat(TranspositionTable.score(entry)).isEqualTo(-Scores.MATE + 3);
+        assertThat(TranspositionTable.depth(entry)).isEqualTo(7);
+        assertThat(TranspositionTable.bound(entry)).isEqualTo(TranspositionTable.UPPER);
+    }
+
+    @Test
+    @DisplayName("다른 키로는 찾을 수 없고, 같은 키의 더 깊은 결과는 얕은 결과로 덮지 않는다")
+    void store_keepsDeeper() {
+        TranspositionTable table = new TranspositionTable(1);
+        table.store(42L, PackedMove.parse("e2e4"), 10, 5, TranspositionTable.EXACT);
+        table.store(42L, PackedMove.parse("d2d4"), 20, 3, TranspositionTable.EXACT);
+
+        assertThat(TranspositionTable.isHit(table.probe(43L))).isFalse();
+        assertThat(TranspositionTable.score(table.probe(42L))).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("크기는 1MB 이상이어야 한다")
+    void create_invalidSize() {
+        assertThatThrownBy(() -> new TranspositionTable(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("[ERROR] 치환표 크기는 1MB 이상이어야 해~");
+    }
+}
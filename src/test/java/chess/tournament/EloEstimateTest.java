@@ -0,0 +1,57 @@
+package chess.tournament;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class EloEstimateTest {
+
+    @Test
+    @DisplayName("승패가 같으면 Elo 차이는 0 이다")
+    void even() {
+        EloEstimate elo = EloEstimate.of(30, 40, 30);
+
+        assertThat(elo.getDifference()).isCloseTo(0, within(1e-9));
+        assertThat(elo.getLower()).isLessThan(0);
+        assertThat(elo.getUpper()).isGreaterThan(0);
+    }
+
+    @Test
+    @DisplayName("75% 를 얻으면 Elo 차이는 약 +191 이다")
+    void threeQuarters() {
+        EloEstimate elo = EloEstimate.of(60, 30, 10);
+
+        assertThat(elo.getScore()).isCloseTo(0.75, within(1e-9));
+        assertThat(elo.getDifference()).isCloseTo(190.85, within(0.01));
+    }
+
+    @Test
+    @DisplayName("판 수가 늘면 오차 범위가 줄어든다")
+    void margin() {
+        EloEstimate few = EloEstimate.of(6, 8, 6);
+        EloEstimate many = EloEstimate.of(600, 800, 600);
+
+        assertThat(many.getMargin()).isLessThan(few.getMargin());
+        assertThat(many.getMargin()).isGreaterThan(0);
+    }
+
+    @Test
+    @DisplayName("전승이어도 Elo 차이는 유한하다")
+    void perfect() {
+        EloEstimate elo = EloEstimate.of(10, 0, 0);
+
+        assertThat(Double.isFinite(elo.getDifference())).isTrue();
+        assertThat(elo.getDifference()).isGreaterThan(0);
+    }
+
+    @Test
+    @DisplayName("한 판도 두지 않으면 예외가 발생한다")
+    void empty() {
+        assertThatThrownBy(() -> EloEstimate.of(0, 0, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("[ERROR] Elo 를 어림하려면 한 판 이상 두어야 해~");
+    }
+}
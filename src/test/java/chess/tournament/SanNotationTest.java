@@ -0,0 +1,50 @@
+package chess.tournament;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import chess.domain.board.Board;
+import chess.domain.board.FenBoardGenerator;
+import chess.domain.board.InitialBoardGenerator;
+import chess.domain.move.PackedMove;
+import chess.domain.piece.Color;
+
+public class SanNotationTest {
+
+    @Test
+    @DisplayName("말은 글자와 도착 칸으로, 폰은 도착 칸만으로 적는다")
+    void quiet() {
+        Board board = new Board(new InitialBoardGenerator());
+
+        assertThat(SanNotation.of(board, Color.WHITE, PackedMove.parse("g1f3"))).isEqualTo("Nf3");
+        assertThat(SanNotation.of(board, Color.WHITE, PackedMove.parse("e2e4"))).isEqualTo("e4");
+    }
+
+    @Test
+    @DisplayName("폰이 잡으면 출발 파일을 붙인다")
+    void pawnCapture() {
+        Board board = new Board(new FenBoardGenerator("4k3/8/8/3p4/4P3/8/8/4K3 w"), Color.WHITE);
+
+        assertThat(SanNotation.of(board, Color.WHITE, PackedMove.parse("e4d5"))).isEqualTo("exd5");
+    }
+
+    @Test
+    @DisplayName("같은 칸으로 갈 수 있는 같은 말이 있으면 파일이나 랭크로 구분한다")
+    void disambiguate() {
+        Board byFile = new Board(new FenBoardGenerator("k7/8/8/8/8/8/8/R4R1K w"), Color.WHITE);
+        Board byRank = new Board(new FenBoardGenerator("k6K/R7/8/8/8/8/8/R7 w"), Color.WHITE);
+
+        assertThat(SanNotation.of(byFile, Color.WHITE, PackedMove.parse("a1d1"))).isEqualTo("Rad1");
+        assertThat(SanNotation.of(byRank, Color.WHITE, PackedMove.parse("a1a4"))).isEqualTo("R1a4");
+    }
+
+    @Test
+    @DisplayName("체크와 체크메이트를 기호로 붙인다")
+    void check() {
+        assertThat(SanNotation.withCheck("Qh5", false, true)).isEqualTo("Qh5+");
+        assertThat(SanNotation.withCheck("Qf7", true, true)).isEqualTo("Qf7#");
+        assertThat(SanNotation.withCheck("e4", false, false)).isEqualTo("e4");
+    }
+}
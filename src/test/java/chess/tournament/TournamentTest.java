@@ -0,0 +1,94 @@
+package chess.tournament;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import chess.domain.piece.Color;
+import chess.engine.AlphaBetaSearch;
+import chess.engine.SearchLimits;
+import chess.engine.SimpleEvaluator;
+import chess.engine.TranspositionTable;
+
+public class TournamentTest {
+    private static final List<String> OPENINGS = List.of("e2e4 e7e5 g1f3 b8c6", "d2d4 d7d5 c2c4 e7e6");
+
+    private static Player player(String name) {
+        return new Player(name, () -> new AlphaBetaSearch(new SimpleEvaluator(), new TranspositionTable(1)));
+    }
+
+    @Test
+    @DisplayName("같은 오프닝을 색을 바꿔 두 판씩 두고 결과를 라운드 순서로 모은다")
+    void play() {
+        Tournament tournament = new Tournament(player("first"), player("second"), SearchLimits.depth(1),
+                OPENINGS, 2);
+
+        TournamentResult result = tournament.play(4);
+
+        List<GameRecord> records = result.getRecords();
+        assertThat(records).hasSize(4);
+        assertThat(records.get(0).getRound()).isEqualTo(1);
+        assertThat(records.get(0).getWhite()).isEqualTo("first");
+        assertThat(records.get(1).getWhite()).isEqualTo("second");
+        assertThat(records.get(0).getMoves().subList(0, 4)).containsExactly("e4", "e5", "Nf3", "Nc6");
+        assertThat(records.get(2).getMoves().subList(0, 4)).containsExactly("d4", "d5", "c4", "e6");
+        assertThat(result.getWins() + result.getDraws() + result.getLosses()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("두 선수의 이름이 같아도 첫 번째 선수가 앉은 색으로 승패를 센다")
+    void play_sameName() {
+        Tournament tournament = new Tournament(player("nnue"), player("nnue"), SearchLimits.depth(1), OPENINGS, 2);
+
+        TournamentResult result = tournament.play(4);
+
+        assertThat(result.getRecords().stream().map(GameRecord::getFirstColor).collect(Collectors.toList()))
+                .containsExactly(Color.WHITE, Color.BLACK, Color.WHITE, Color.BLACK);
+        assertThat(result.getWins() + result.getDraws() + result.getLosses()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("흑으로 이긴 판은 첫 번째 선수가 흑일 때만 승리로 센다")
+    void scoreOfFirst() {
+        GameRecord firstWhite = new GameRecord(1, "nnue", "nnue", List.of("e4"), GameOutcome.BLACK_WIN, "normal",
+                Color.WHITE);
+        GameRecord firstBlack = new GameRecord(2, "nnue", "nnue", List.of("e4"), GameOutcome.BLACK_WIN, "normal",
+                Color.BLACK);
+        TournamentResult result = new TournamentResult("nnue", "nnue", List.of(firstWhite, firstBlack), 0);
+
+        assertThat(firstWhite.scoreOfFirst()).isEqualTo(0);
+        assertThat(firstBlack.scoreOfFirst()).isEqualTo(1);
+        assertThat(result.getWins()).isEqualTo(1);
+        assertThat(result.getLosses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대국 기록을 PGN 태그와 수순으로 적는다")
+    void pgn() {
+        GameRecord record = new GameRecord(3, "first", "second", List.of("e4", "e5", "Qh5", "Nc6", "Bc4", "Nf6",
+                "Qxf7#"), GameOutcome.WHITE_WIN, "normal", Color.WHITE);
+
+        String pgn = new PgnWriter("Self-play", LocalDate.of(2026, 10, 18)).toPgn(record);
+
+        assertThat(pgn).contains("[Event \"Self-play\"]", "[Date \"2026.10.18\"]", "[Round \"3\"]",
+                "[White \"first\"]", "[Black \"second\"]", "[Result \"1-0\"]", "[PlyCount \"7\"]");
+        assertThat(pgn).contains("1. e4 e5 2. Qh5 Nc6 3. Bc4 Nf6 4. Qxf7# 1-0");
+    }
+
+    @Test
+    @DisplayName("대국 수가 1 보다 작으면 예외가 발생한다")
+    void invalidGames() {
+        Tournament tournament = new Tournament(player("first"), player("second"), SearchLimits.depth(1),
+                OPENINGS, 1);
+
+        assertThatThrownBy(() -> tournament.play(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("[ERROR] 대국 수는 1 이상이어야 해~");
+    }
+}
@@ -0,0 +1,103 @@
+package chess.uci;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class UciEngineTest {
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    private ByteArrayOutputStream output;
+    private UciEngine uciEngine;
+
+    @BeforeEach
+    void setUp() {
+        output = new ByteArrayOutputStream();
+        uciEngine = new UciEngine(new PrintStream(output, true, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("uci 에 엔진 정보와 옵션을 알리고, isready 에 readyok 로 답한다")
+    void handle_uciAndIsReady() {
+        uciEngine.handle("uci");
+        uciEngine.handle("isready");
+
+        assertThat(output()).contains("id name java-chess", "option name Hash type spin", "option name Threads type spin",
+                "uciok", "readyok");
+    }
+
+    @Test
+    @DisplayName("position 에 이어 둔 수를 반영하고, 깊이를 정한 go 에 둘 수 있는 최선의 수로 답한다")
+    void handle_positionAndGoDepth() throws InterruptedException {
+        uciEngine.handle("position fen k7/8/1K6/8/8/8/8/7R b - - 0 1 moves a8b8 h1h2 b8a8");
+        uciEngine.handle("go depth 3");
+
+        assertThat(awaitBestMove()).contains("bestmove h2h8");
+        assertThat(output()).contains("score mate 1");
+    }
+
+    @Test
+    @DisplayName("끝나지 않는 탐색도 stop 이 오면 바로 멈추고 최선의 수를 알린다")
+    void handle_stopInfiniteSearch() throws InterruptedException {
+        uciEngine.handle("position startpos moves e2e4");
+        uciEngine.handle("go infinite");
+        uciEngine.handle("isready");
+        assertThat(output()).contains("readyok").doesNotContain("bestmove");
+
+        long startedAt = System.currentTimeMillis();
+        uciEngine.handle("stop");
+        assertThat(output()).contains("bestmove");
+        assertThat(System.currentTimeMillis() - startedAt).isLessThan(TIMEOUT_MILLIS);
+    }
+
+    @Test
+    @DisplayName("남은 시간과 옵션을 바꿔도 시간 안에 답한다")
+    void handle_setOptionAndGoWithClock() throws InterruptedException {
+        uciEngine.handle("setoption name Hash value 1");
+        uciEngine.handle("setoption name Threads value 2");
+        uciEngine.handle("ucinewgame");
+        uciEngine.handle("position startpos");
+        uciEngine.handle("go wtime 3000 btime 3000 winc 0 binc 0");
+
+        assertThat(awaitBestMove()).matches("(?s).*bestmove [a-h][1-8][a-h][1-8].*");
+    }
+
+    @Test
+    @DisplayName("go 에 모르는 키워드나 값이 없는 키워드가 섞여도 최선의 수로 답한다")
+    void handle_goWithUnknownKeywords() throws InterruptedException {
+        uciEngine.handle("position startpos");
+        uciEngine.handle("go searchmoves e2e4 d2d4 ponder depth 1");
+
+        assertThat(awaitBestMove()).matches("(?s).*bestmove [a-h][1-8][a-h][1-8].*");
+        assertThat(output()).doesNotContain("info string");
+    }
+
+    @Test
+    @DisplayName("이 체스에서 둘 수 없는 캐슬링이 오면 알리고, 그 앞까지 둔 위치에서 탐색한다")
+    void handle_illegalMove() throws InterruptedException {
+        uciEngine.handle("position fen k7/8/8/8/8/8/6q1/4K2R b - - 0 1 moves g2h2 e1g1");
+        assertThat(output()).contains("info string 허걱... 거긴 못가... 미안..").doesNotContain("순서 지키시지");
+
+        uciEngine.handle("go depth 1");
+        assertThat(awaitBestMove()).contains("bestmove h1h2");
+        assertThat(uciEngine.handle("quit")).isFalse();
+    }
+
+    private String awaitBestMove() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!output().contains("bestmove") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        return output();
+    }
+
+    private String output() {
+        return output.toString(StandardCharsets.UTF_8);
+    }
+}